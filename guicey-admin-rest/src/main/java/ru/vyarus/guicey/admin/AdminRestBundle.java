@@ -2,15 +2,25 @@ package ru.vyarus.guicey.admin;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.inject.Injector;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.core.setup.Environment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.guicey.admin.rest.AdminPathIndex;
 import ru.vyarus.guicey.admin.rest.AdminResourceFilter;
+import ru.vyarus.guicey.admin.rest.AdminRestLimits;
+import ru.vyarus.guicey.admin.rest.AdminResourcesGuardFilter;
+import ru.vyarus.guicey.admin.rest.AdminResourcesContainer;
 import ru.vyarus.guicey.admin.rest.AdminRestServlet;
 
+import javax.servlet.DispatcherType;
+import javax.servlet.Servlet;
+import java.util.EnumSet;
+import java.util.List;
+
 /**
  * Adds rest support in admin context by simply redirecting from admin servlet into jersey (all rest methods
  * are accessible from admin context).
@@ -22,8 +32,12 @@ import ru.vyarus.guicey.admin.rest.AdminRestServlet;
  * If main rest mapping default ('/*') isn't changed, admin rest will be mapped to '/api/*'.
  * <p>
  * In order to hide admin specific rest methods or entire resources
- * {@link ru.vyarus.guicey.admin.rest.AdminResource} annotation may be used.
+ * {@link ru.vyarus.guicey.admin.rest.AdminResource} annotation may be used. Calls to admin-only paths are
+ * rejected on the main context before jersey routing (see {@link AdminPathIndex}).
  * If some security solution is used within application, rest could be hidden with security framework permissions.
+ * <p>
+ * Optionally, separate jersey container could be used for admin resources ({@link #dedicatedContainer()}).
+ * Admin calls could be limited with {@link #withConcurrencyLimit(int)} and {@link #withRateLimit(double)}.
  *
  * @author Vyacheslav Rusakov
  * @since 05.08.2015
@@ -33,6 +47,10 @@ public class AdminRestBundle extends UniqueGuiceyBundle {
     private final Logger logger = LoggerFactory.getLogger(AdminRestBundle.class);
 
     private final String path;
+    private boolean dedicated;
+    private int maxConcurrent;
+    private double maxRate;
+    private Injector injector;
 
     /**
      * Admin rest will be mapped on the same path as main rest if rest mapping is different from '/*'.
@@ -52,19 +70,87 @@ public class AdminRestBundle extends UniqueGuiceyBundle {
         this.path = path;
     }
 
+    /**
+     * By default, admin rest calls are redirected into the main jersey container. Use this option to build
+     * separate lightweight jersey container for admin resources only (resources annotated with
+     * {@link ru.vyarus.guicey.admin.rest.AdminResource} on class or method). Admin traffic would not be
+     * processed by the main jersey container (resources matching, filters).
+     * <p>
+     * Note that in this mode only admin resources are available in admin context. Resources are created by guice,
+     * but extensions (filters, exception mappers etc.), registered in the main container, are not applied.
+     *
+     * @return bundle instance for chained calls
+     */
+    public AdminRestBundle dedicatedContainer() {
+        this.dedicated = true;
+        return this;
+    }
+
+    /**
+     * Limits max concurrent admin rest calls. Calls exceeding limit are immediately rejected with 503 error.
+     * Useful to prevent expensive admin endpoints from starving application during incidents.
+     *
+     * @param maxConcurrent max concurrent admin rest calls
+     * @return bundle instance for chained calls
+     * @see AdminRestLimits for metrics
+     */
+    public AdminRestBundle withConcurrencyLimit(final int maxConcurrent) {
+        Preconditions.checkArgument(maxConcurrent > 0, "Concurrency limit must be positive");
+        this.maxConcurrent = maxConcurrent;
+        return this;
+    }
+
+    /**
+     * Limits admin rest calls rate. Calls exceeding rate are immediately rejected with 429 error.
+     *
+     * @param permitsPerSecond max admin rest calls per second
+     * @return bundle instance for chained calls
+     * @see AdminRestLimits for metrics
+     */
+    public AdminRestBundle withRateLimit(final double permitsPerSecond) {
+        Preconditions.checkArgument(permitsPerSecond > 0, "Rate limit must be positive");
+        this.maxRate = permitsPerSecond;
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) throws Exception {
         environment.manage(new ServletRegistration(environment.environment()));
+        if (dedicated) {
+            environment.onGuiceyStartup((config, env, injector) -> this.injector = injector);
+        }
     }
 
     private void registerServlet(final String path, final Environment environment) {
+        final Servlet target;
+        if (dedicated) {
+            final List<Class<?>> resources = AdminResourcesContainer.findAdminResources(environment);
+            final List<Object> instances = AdminResourcesContainer.findAdminResourceInstances(environment);
+            target = AdminResourcesContainer.build(environment, injector, resources, instances);
+            logger.info("Dedicated admin REST container created for {} resources",
+                    resources.size() + instances.size());
+        } else {
+            target = environment.getJerseyServletContainer();
+        }
+        final AdminRestLimits limits = maxConcurrent > 0 || maxRate > 0
+                ? new AdminRestLimits(environment.metrics(), maxConcurrent, maxRate) : null;
         environment.admin()
-                .addServlet("adminRest", new AdminRestServlet(environment.getJerseyServletContainer()))
+                .addServlet("adminRest", new AdminRestServlet(target, dedicated, limits))
                 .addMapping(path);
         environment.jersey().register(AdminResourceFilter.class);
+        registerGuard(environment);
         logger.info("Admin REST registered on path: {}", path);
     }
 
+    private void registerGuard(final Environment environment) {
+        final AdminPathIndex index = AdminPathIndex.build(environment.jersey().getResourceConfig());
+        if (!index.isEmpty()) {
+            environment.servlets().addFilter("adminResourcesGuard", new AdminResourcesGuardFilter(index))
+                    .addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST), false,
+                            environment.jersey().getUrlPattern());
+        }
+    }
+
     /**
      * Managed object is required  because rest mapping from configuration (servlet.rootPath)
      * is available only on managed start phase.
@@ -0,0 +1,215 @@
+package ru.vyarus.guicey.admin.rest;
+
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+import javax.ws.rs.HttpMethod;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precomputed index of admin-only rest paths (resource methods annotated with {@link AdminResource} directly or
+ * on class). Used to reject admin-only resources calls in the main context before jersey routing.
+ * <p>
+ * Index is conservative: path is considered admin only if it matches some admin method and does not match any
+ * not admin method (for the same http method). For example, if admin method is mapped to {@code /items/{id}}
+ * and public one to {@code /items/special} then {@code /items/special} would not be rejected. Sub resource
+ * locators are always treated as public (in such case rejection is performed by {@link AdminResourceFilter}).
+ * <p>
+ * Resources, registered as classes, instances and jersey resource models (programmatic resources), are indexed
+ * (see {@link #build(ResourceConfig)}). Jersey resource model is used, so annotations declared on superclass or
+ * interface are recognized. Resources, which jersey model could not be built for, are not indexed (calls are
+ * rejected by {@link AdminResourceFilter}). OPTIONS requests are never rejected (handled by jersey as before).
+ * <p>
+ * Most requests are accepted immediately by the first path segment check (when all admin paths start
+ * with static segment).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AdminPathIndex {
+    private static final String SLASH = "/";
+    private static final Pattern TEMPLATE = Pattern.compile("\\{\\s*([^:}\\s]+)\\s*(?::\\s*((?:[^{}]|\\{[^{}]*})*))?}");
+
+    private final List<Entry> admin = new ArrayList<>();
+    private final List<Entry> open = new ArrayList<>();
+    // first segments of all admin paths (null if some admin path starts with template)
+    private Set<String> roots = new HashSet<>();
+
+    /**
+     * @param resources resource classes
+     */
+    public AdminPathIndex(final Collection<Class<?>> resources) {
+        for (Class<?> type : resources) {
+            // jersey model used to support annotations declared on superclass or interface
+            if (Resource.isAcceptable(type) && Resource.getPath(type) != null) {
+                final Resource resource;
+                try {
+                    resource = Resource.from(type);
+                } catch (RuntimeException ex) {
+                    // resource can't be classified: calls would be checked by AdminResourceFilter
+                    continue;
+                }
+                index(SLASH, resource);
+            }
+        }
+    }
+
+    /**
+     * Indexes all resources, registered in jersey configuration: classes, instances and resource models.
+     *
+     * @param config jersey configuration
+     * @return index of admin paths
+     */
+    public static AdminPathIndex build(final ResourceConfig config) {
+        final List<Class<?>> types = new ArrayList<>(config.getClasses());
+        for (Object instance : config.getInstances()) {
+            types.add(instance.getClass());
+        }
+        final AdminPathIndex index = new AdminPathIndex(types);
+        // manually added resources
+        for (Resource resource : config.getResources()) {
+            index.index(SLASH, resource);
+        }
+        return index;
+    }
+
+    /**
+     * @return true if index contains admin paths
+     */
+    public boolean isEmpty() {
+        return admin.isEmpty();
+    }
+
+    /**
+     * @param httpMethod request http method
+     * @param path       request path (relative to rest root)
+     * @return true if path is mapped only to admin resource methods
+     */
+    public boolean isAdminOnly(final String httpMethod, final String path) {
+        final String normalized = normalize(path);
+        boolean res = false;
+        // OPTIONS responses are generated by jersey (not admin methods)
+        if (!HttpMethod.OPTIONS.equals(httpMethod)
+                && (roots == null || roots.contains(firstSegment(normalized)))) {
+            // HEAD request is processed by GET method (when HEAD method is not declared)
+            final boolean head = HttpMethod.HEAD.equals(httpMethod);
+            res = (matches(admin, httpMethod, normalized) || head && matches(admin, HttpMethod.GET, normalized))
+                    && !matches(open, httpMethod, normalized)
+                    && !(head && matches(open, HttpMethod.GET, normalized));
+        }
+        return res;
+    }
+
+    private void index(final String rootPath, final Resource resource) {
+        final String path = join(rootPath, resource.getPath() == null ? "" : resource.getPath());
+        for (ResourceMethod method : resource.getResourceMethods()) {
+            register(path, method.getHttpMethod(), isAdmin(method));
+        }
+        if (resource.getResourceLocator() != null) {
+            register(path, null, false);
+        }
+        for (Resource child : resource.getChildResources()) {
+            index(path, child);
+        }
+    }
+
+    private void register(final String path, final String httpMethod, final boolean adminMethod) {
+        final String fullPath = normalize(path);
+        if (httpMethod == null) {
+            // sub resource locator: everything under path
+            open.add(new Entry(null, compile(fullPath, true)));
+        } else if (adminMethod) {
+            admin.add(new Entry(httpMethod, compile(fullPath, false)));
+            if (roots != null) {
+                final String segment = firstSegment(fullPath);
+                if (segment.contains("{")) {
+                    roots = null;
+                } else {
+                    roots.add(segment);
+                }
+            }
+        } else {
+            open.add(new Entry(httpMethod, compile(fullPath, false)));
+        }
+    }
+
+    private static boolean isAdmin(final ResourceMethod method) {
+        final Invocable invocable = method.getInvocable();
+        final Method definition = invocable.getDefinitionMethod();
+        final Method handling = invocable.getHandlingMethod();
+        // name bindings contain annotations from class and method (including inherited declarations)
+        return method.getNameBindings().contains(AdminResource.class)
+                || invocable.getHandler().getHandlerClass().isAnnotationPresent(AdminResource.class)
+                || definition != null && definition.isAnnotationPresent(AdminResource.class)
+                || handling != null && handling.isAnnotationPresent(AdminResource.class);
+    }
+
+    private static String join(final String root, final String path) {
+        return (root + SLASH + path).replaceAll("/{2,}", SLASH);
+    }
+
+    private static boolean matches(final List<Entry> entries, final String httpMethod, final String path) {
+        for (Entry entry : entries) {
+            if ((entry.httpMethod == null || entry.httpMethod.equals(httpMethod))
+                    && entry.pattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Pattern compile(final String path, final boolean prefix) {
+        final StringBuilder res = new StringBuilder();
+        final Matcher matcher = TEMPLATE.matcher(path);
+        int pos = 0;
+        while (matcher.find()) {
+            res.append(Pattern.quote(path.substring(pos, matcher.start())));
+            final String regex = matcher.group(2);
+            res.append(regex == null ? "[^/]+" : "(?:" + regex.trim() + ")");
+            pos = matcher.end();
+        }
+        res.append(Pattern.quote(path.substring(pos)));
+        if (prefix) {
+            res.append("(/.*)?");
+        }
+        return Pattern.compile(res.toString());
+    }
+
+    private static String normalize(final String path) {
+        String res = path;
+        if (!res.startsWith(SLASH)) {
+            res = SLASH + res;
+        }
+        if (res.length() > 1 && res.endsWith(SLASH)) {
+            res = res.substring(0, res.length() - 1);
+        }
+        return res;
+    }
+
+    private static String firstSegment(final String path) {
+        final int idx = path.indexOf('/', 1);
+        return idx < 0 ? path.substring(1) : path.substring(1, idx);
+    }
+
+    /**
+     * Indexed resource method.
+     */
+    private static class Entry {
+        private final String httpMethod;
+        private final Pattern pattern;
+
+        Entry(final String httpMethod, final Pattern pattern) {
+            this.httpMethod = httpMethod;
+            this.pattern = pattern;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.vyarus.guicey.admin.rest;
+
+import com.google.inject.Injector;
+import io.dropwizard.core.setup.Environment;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.jackson.JacksonFeature;
+import io.dropwizard.jersey.setup.JerseyServletContainer;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+
+import javax.ws.rs.Path;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds separate lightweight jersey container, containing only admin resources: resources annotated with
+ * {@link AdminResource} (on class or on some methods). Admin requests are not routed through the main jersey
+ * container, so admin traffic does not share main application resources matching and filters.
+ * <p>
+ * Resource instances are obtained from guice (so guice scopes are preserved). Resources, registered in the main
+ * container as instances, are used as is. Container contains only resources and jackson support (extensions,
+ * registered in the main container, are not available).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class AdminResourcesContainer {
+
+    private AdminResourcesContainer() {
+    }
+
+    /**
+     * Search for admin resources in main jersey configuration.
+     *
+     * @param environment environment
+     * @return admin resource classes
+     */
+    public static List<Class<?>> findAdminResources(final Environment environment) {
+        final List<Class<?>> res = new ArrayList<>();
+        for (Class<?> type : environment.jersey().getResourceConfig().getClasses()) {
+            if (type.isAnnotationPresent(Path.class) && isAdminResource(type)) {
+                res.add(type);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Search for admin resources, registered as instances, in main jersey configuration.
+     *
+     * @param environment environment
+     * @return admin resource instances
+     */
+    public static List<Object> findAdminResourceInstances(final Environment environment) {
+        final List<Object> res = new ArrayList<>();
+        for (Object instance : environment.jersey().getResourceConfig().getInstances()) {
+            final Class<?> type = instance.getClass();
+            if (type.isAnnotationPresent(Path.class) && isAdminResource(type)) {
+                res.add(instance);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param type resource class
+     * @return true if class or any method annotated with {@link AdminResource}
+     */
+    public static boolean isAdminResource(final Class<?> type) {
+        boolean res = type.isAnnotationPresent(AdminResource.class);
+        if (!res) {
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(AdminResource.class)) {
+                    res = true;
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param environment environment
+     * @param injector    injector
+     * @param resources   admin resources
+     * @param instances   admin resource instances
+     * @return jersey servlet container with admin resources only
+     */
+    public static JerseyServletContainer build(final Environment environment,
+                                               final Injector injector,
+                                               final List<Class<?>> resources,
+                                               final List<Object> instances) {
+        final DropwizardResourceConfig config = new DropwizardResourceConfig(environment.metrics());
+        config.register(new JacksonFeature(environment.getObjectMapper()));
+        resources.forEach(config::register);
+        instances.forEach(config::register);
+        config.register(new GuiceResourcesBinder(injector, resources));
+        return new JerseyServletContainer(config);
+    }
+
+    /**
+     * Binds resources to be created by guice.
+     */
+    private static class GuiceResourcesBinder extends AbstractBinder {
+        private final Injector injector;
+        private final List<Class<?>> resources;
+
+        GuiceResourcesBinder(final Injector injector, final List<Class<?>> resources) {
+            this.injector = injector;
+            this.resources = resources;
+        }
+
+        @Override
+        protected void configure() {
+            resources.forEach(this::bindResource);
+        }
+
+        private <T> void bindResource(final Class<T> type) {
+            // guice would control resource scope
+            bindFactory(() -> injector.getInstance(type)).to(type);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.vyarus.guicey.admin.rest;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Main context filter, rejecting admin-only resources calls (with 404) before jersey routing. Avoids
+ * jersey resource matching and exception creation in {@link AdminResourceFilter} (important when admin urls
+ * are probed by scanners). Must be mapped to jersey path.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @see AdminPathIndex
+ */
+public class AdminResourcesGuardFilter implements Filter {
+
+    private final AdminPathIndex index;
+
+    public AdminResourcesGuardFilter(final AdminPathIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+        // not needed
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request,
+                         final ServletResponse response,
+                         final FilterChain chain) throws IOException, ServletException {
+        final HttpServletRequest req = (HttpServletRequest) request;
+        // path relative to jersey servlet mapping
+        final String path = req.getPathInfo();
+        if (index.isAdminOnly(req.getMethod(), path == null ? "/" : path)) {
+            // 404 - resource not exists for outer world
+            ((HttpServletResponse) response).sendError(HttpServletResponse.SC_NOT_FOUND);
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // not needed
+    }
+}
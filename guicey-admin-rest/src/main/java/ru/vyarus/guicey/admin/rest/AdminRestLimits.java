@@ -0,0 +1,111 @@
+package ru.vyarus.guicey.admin.rest;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.RateLimiter;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admin rest calls limits: max concurrent calls and max calls rate. Calls exceeding concurrency limit are
+ * rejected with 503 and calls exceeding rate are rejected with 429 (so heavy admin calls could never starve
+ * application).
+ * <p>
+ * Registered metrics (prefixed with {@code ru.vyarus.guicey.admin.rest.AdminRestServlet}):
+ * <ul>
+ * <li>{@code requests} - admin rest calls timer</li>
+ * <li>{@code active} - currently processed calls</li>
+ * <li>{@code rejected.concurrency} and {@code rejected.rate} - rejected calls meters</li>
+ * <li>{@code clients.[address]} - calls meter per client address (limited to {@value #MAX_CLIENTS} clients,
+ * other clients are counted as {@code clients.other})</li>
+ * </ul>
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AdminRestLimits {
+    /**
+     * Max count of client addresses tracked separately (to avoid metrics explosion).
+     */
+    public static final int MAX_CLIENTS = 100;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final MetricRegistry metrics;
+    private final Semaphore concurrency;
+    private final RateLimiter rate;
+
+    private final Timer requests;
+    private final Meter rejectedConcurrency;
+    private final Meter rejectedRate;
+    private final AtomicInteger active = new AtomicInteger();
+    private final Map<String, Meter> clients = new ConcurrentHashMap<>();
+
+    /**
+     * @param metrics       metrics registry
+     * @param maxConcurrent max concurrent calls (0 for no limit)
+     * @param maxRate       max calls per second (0 for no limit)
+     */
+    public AdminRestLimits(final MetricRegistry metrics, final int maxConcurrent, final double maxRate) {
+        this.metrics = metrics;
+        this.concurrency = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+        this.rate = maxRate > 0 ? RateLimiter.create(maxRate) : null;
+        this.requests = metrics.timer(name("requests"));
+        this.rejectedConcurrency = metrics.meter(name("rejected", "concurrency"));
+        this.rejectedRate = metrics.meter(name("rejected", "rate"));
+        metrics.gauge(name("active"), () -> active::get);
+    }
+
+    /**
+     * Checks limits for new call.
+     *
+     * @param client client address
+     * @return 0 if call allowed or response status to reject call with
+     */
+    public int acquire(final String client) {
+        clientMeter(client).mark();
+        int res = 0;
+        if (rate != null && !rate.tryAcquire()) {
+            rejectedRate.mark();
+            res = TOO_MANY_REQUESTS;
+        } else if (concurrency != null && !concurrency.tryAcquire()) {
+            rejectedConcurrency.mark();
+            res = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        } else {
+            active.incrementAndGet();
+        }
+        return res;
+    }
+
+    /**
+     * Must be called after allowed call processing.
+     *
+     * @param nanos call duration
+     */
+    public void release(final long nanos) {
+        active.decrementAndGet();
+        if (concurrency != null) {
+            concurrency.release();
+        }
+        requests.update(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Meter clientMeter(final String client) {
+        Meter res = clients.get(client);
+        if (res == null) {
+            res = clients.size() < MAX_CLIENTS
+                    ? clients.computeIfAbsent(client, key -> metrics.meter(name("clients", key)))
+                    : metrics.meter(name("clients", "other"));
+        }
+        return res;
+    }
+
+    private static String name(final String... names) {
+        return MetricRegistry.name(AdminRestServlet.class, names);
+    }
+}
@@ -1,11 +1,19 @@
 package ru.vyarus.guicey.admin.rest;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Servlet;
+import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Forwards all requests into jersey context.
@@ -13,6 +21,8 @@ import java.io.IOException;
  * Marks request with custom attribute {@link #ADMIN_PROPERTY} to indicate admin rest usage.
  * It may be used later to recognize rest origin. For example, {@link AdminResourceFilter} use it to prevent
  * access to admin resources (annotated with {@link AdminResource}) from user context.
+ * <p>
+ * Optionally, admin calls could be limited (see {@link AdminRestLimits}).
  *
  * @author Vyacheslav Rusakov
  * @since 04.08.2015
@@ -24,18 +34,152 @@ public class AdminRestServlet extends HttpServlet {
     public static final String ADMIN_PROPERTY = AdminRestServlet.class.getName();
 
     private final Servlet restServlet;
+    private final boolean manage;
+    private final AdminRestLimits limits;
 
     /**
      * @param restServlet dropwizard rest servlet (environment.getJerseyServletContainer())
      */
     public AdminRestServlet(final Servlet restServlet) {
+        this(restServlet, false);
+    }
+
+    /**
+     * @param restServlet rest servlet
+     * @param manage      true to initialize and destroy rest servlet together with admin servlet (when rest servlet
+     *                    is not registered in the main context)
+     */
+    public AdminRestServlet(final Servlet restServlet, final boolean manage) {
+        this(restServlet, manage, null);
+    }
+
+    /**
+     * @param restServlet rest servlet
+     * @param manage      true to initialize and destroy rest servlet together with admin servlet
+     * @param limits      calls limits (may be null)
+     */
+    public AdminRestServlet(final Servlet restServlet, final boolean manage, final AdminRestLimits limits) {
         this.restServlet = restServlet;
+        this.manage = manage;
+        this.limits = limits;
+    }
+
+    @Override
+    public void init(final ServletConfig config) throws ServletException {
+        super.init(config);
+        if (manage) {
+            restServlet.init(config);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (manage) {
+            restServlet.destroy();
+        }
+        super.destroy();
     }
 
     @Override
     protected void service(final HttpServletRequest req, final HttpServletResponse resp)
             throws ServletException, IOException {
         req.setAttribute(ADMIN_PROPERTY, true);
-        restServlet.service(req, resp);
+        if (limits == null) {
+            restServlet.service(req, resp);
+        } else {
+            serviceWithLimits(req, resp);
+        }
+    }
+
+    private void serviceWithLimits(final HttpServletRequest req, final HttpServletResponse resp)
+            throws ServletException, IOException {
+        final int status = limits.acquire(req.getRemoteAddr());
+        if (status != 0) {
+            resp.sendError(status);
+            return;
+        }
+        final LimitReleaseListener listener = new LimitReleaseListener(System.nanoTime());
+        try {
+            // listener registered just after async start (before async processing could complete)
+            restServlet.service(new LimitedRequest(req, listener), resp);
+        } finally {
+            if (!listener.isAsync()) {
+                listener.release();
+            }
+        }
+    }
+
+    /**
+     * Registers limits release listener on async processing start.
+     */
+    private static class LimitedRequest extends HttpServletRequestWrapper {
+        private final LimitReleaseListener listener;
+
+        LimitedRequest(final HttpServletRequest request, final LimitReleaseListener listener) {
+            super(request);
+            this.listener = listener;
+        }
+
+        @Override
+        public AsyncContext startAsync() {
+            return listener.register(super.startAsync());
+        }
+
+        @Override
+        public AsyncContext startAsync(final ServletRequest servletRequest, final ServletResponse servletResponse) {
+            return listener.register(super.startAsync(servletRequest, servletResponse));
+        }
+    }
+
+    /**
+     * Releases limits after async call processing.
+     */
+    private class LimitReleaseListener implements AsyncListener {
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean async;
+
+        LimitReleaseListener(final long start) {
+            this.start = start;
+        }
+
+        public boolean isAsync() {
+            return async;
+        }
+
+        public AsyncContext register(final AsyncContext context) {
+            if (!async) {
+                async = true;
+                context.addListener(this);
+            }
+            return context;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // async processing restarted
+            event.getAsyncContext().addListener(this);
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                limits.release(System.nanoTime() - start);
+            }
+        }
     }
 }
@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.admin
+
+import ru.vyarus.guicey.admin.rest.AdminPathIndex
+import ru.vyarus.guicey.admin.rest.AdminResource
+import ru.vyarus.guicey.admin.support.HybridResource
+import spock.lang.Specification
+
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AdminPathIndexTest extends Specification {
+
+    def "Check admin paths detection"() {
+
+        when:
+        AdminPathIndex index = new AdminPathIndex([ru.vyarus.guicey.admin.support.AdminResource, HybridResource, Items])
+
+        then: "admin resource"
+        index.isAdminOnly('GET', '/admin')
+        index.isAdminOnly('GET', '/admin/')
+        index.isAdminOnly('HEAD', '/admin')
+
+        and: "hybrid resource"
+        !index.isAdminOnly('GET', '/hybrid/hello')
+        index.isAdminOnly('GET', '/hybrid/admin')
+        !index.isAdminOnly('POST', '/hybrid/admin')
+
+        and: "templates"
+        index.isAdminOnly('GET', '/items/12')
+        !index.isAdminOnly('GET', '/items/ab')
+        index.isAdminOnly('GET', '/items/ab/x')
+        !index.isAdminOnly('GET', '/items/special/x')
+
+        and: "OPTIONS never rejected"
+        !index.isAdminOnly('OPTIONS', '/admin')
+        !index.isAdminOnly('OPTIONS', '/items/12')
+
+        and: "unknown paths"
+        !index.isAdminOnly('GET', '/other')
+        !index.isAdminOnly('GET', '/')
+    }
+
+    def "Check annotations declared in interface"() {
+
+        when:
+        AdminPathIndex index = new AdminPathIndex([Items, ApiItems, String])
+
+        then: "public path from interface recognized"
+        !index.isAdminOnly('GET', '/items/special')
+        !index.isAdminOnly('HEAD', '/items/special')
+        index.isAdminOnly('GET', '/items/12')
+        index.isAdminOnly('HEAD', '/items/12')
+    }
+
+    @Path('/items')
+    static class Items {
+
+        @GET
+        @Path('/{id: \\d+}')
+        @AdminResource
+        String byId() {
+        }
+
+        @GET
+        @Path('/{name}/x')
+        @AdminResource
+        String byName() {
+        }
+
+        @GET
+        @Path('/special/x')
+        String special() {
+        }
+    }
+
+    @Path('/items')
+    static interface ItemsApi {
+
+        @GET
+        @Path('/special')
+        String special()
+    }
+
+    static class ApiItems implements ItemsApi {
+
+        @Override
+        String special() {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.vyarus.guicey.admin
+
+import com.codahale.metrics.MetricRegistry
+import ru.vyarus.guicey.admin.rest.AdminRestLimits
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AdminRestLimitsTest extends Specification {
+
+    def "Check concurrency limit"() {
+
+        when:
+        MetricRegistry metrics = new MetricRegistry()
+        AdminRestLimits limits = new AdminRestLimits(metrics, 1, 0)
+
+        then: "second concurrent call rejected"
+        limits.acquire('127.0.0.1') == 0
+        limits.acquire('127.0.0.1') == 503
+        metrics.meter('ru.vyarus.guicey.admin.rest.AdminRestServlet.rejected.concurrency').count == 1
+        metrics.gauges['ru.vyarus.guicey.admin.rest.AdminRestServlet.active'].value == 1
+
+        when: "call completed"
+        limits.release(1000)
+
+        then: "new call allowed"
+        limits.acquire('127.0.0.2') == 0
+        metrics.timer('ru.vyarus.guicey.admin.rest.AdminRestServlet.requests').count == 1
+        metrics.meter('ru.vyarus.guicey.admin.rest.AdminRestServlet.clients.127.0.0.1').count == 2
+        metrics.meter('ru.vyarus.guicey.admin.rest.AdminRestServlet.clients.127.0.0.2').count == 1
+    }
+
+    def "Check rate limit"() {
+
+        when:
+        MetricRegistry metrics = new MetricRegistry()
+        AdminRestLimits limits = new AdminRestLimits(metrics, 0, 0.1)
+
+        then: "call exceeding rate rejected"
+        limits.acquire('127.0.0.1') == 0
+        limits.acquire('127.0.0.1') == 429
+        metrics.meter('ru.vyarus.guicey.admin.rest.AdminRestServlet.rejected.rate').count == 1
+    }
+}
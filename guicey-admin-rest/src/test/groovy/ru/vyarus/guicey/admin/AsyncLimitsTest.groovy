@@ -0,0 +1,85 @@
+package ru.vyarus.guicey.admin
+
+import com.codahale.metrics.Gauge
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.container.AsyncResponse
+import javax.ws.rs.container.Suspended
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(App)
+class AsyncLimitsTest extends Specification {
+
+    @Inject
+    Environment environment
+
+    def "Check limit released for immediately completed async calls"() {
+
+        expect: "all sequential calls accepted"
+        (1..5).every {
+            String now = new URL("http://localhost:8081/api/async/now").getText()
+            waitRelease()
+            String thread = new URL("http://localhost:8081/api/async/thread").getText()
+            waitRelease()
+            now == 'now' && thread == 'thread'
+        }
+        active() == 0
+    }
+
+    private void waitRelease() {
+        int i = 0
+        // release is performed in async listener, which could be called just after response sending
+        while (i++ < 50 && active() != 0) {
+            sleep(20)
+        }
+    }
+
+    private int active() {
+        Gauge gauge = environment.metrics().gauges['ru.vyarus.guicey.admin.rest.AdminRestServlet.active']
+        return gauge.value as int
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new AdminRestBundle("/api/*").withConcurrencyLimit(1))
+                    .extensions(ImmediateAsyncResource)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/async")
+    static class ImmediateAsyncResource {
+
+        @GET
+        @Path("/now")
+        void now(@Suspended final AsyncResponse asyncResponse) {
+            // completed before resource method returns
+            asyncResponse.resume("now")
+        }
+
+        @GET
+        @Path("/thread")
+        void thread(@Suspended final AsyncResponse asyncResponse) {
+            Thread.start { asyncResponse.resume("thread") }
+        }
+    }
+}
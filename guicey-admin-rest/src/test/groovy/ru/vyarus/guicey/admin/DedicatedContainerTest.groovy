@@ -0,0 +1,48 @@
+package ru.vyarus.guicey.admin
+
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.admin.support.DedicatedContainerApp
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(DedicatedContainerApp)
+class DedicatedContainerTest extends AbstractTest {
+
+    def "Check admin resources in dedicated container"() {
+
+        when: "admin rest"
+        def res = new URL("http://localhost:8081/api/hybrid/admin").getText()
+        then: "ok"
+        res == "admin"
+
+        when: "admin rest (by class annotation)"
+        res = new URL("http://localhost:8081/api/admin/").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "admin rest registered as instance"
+        res = new URL("http://localhost:8081/api/instance/").getText()
+        then: "ok"
+        res == "instance"
+
+        when: "not admin resource"
+        new URL("http://localhost:8081/api/request/").getText()
+        then: "not available in admin context"
+        thrown(FileNotFoundException)
+    }
+
+    def "Check admin resources hidden in user context"() {
+
+        when: "public rest"
+        def res = new URL("http://localhost:8080/hybrid/hello").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "admin only rest"
+        new URL("http://localhost:8080/hybrid/admin").getText()
+        then: "not accessible"
+        thrown(FileNotFoundException)
+    }
+}
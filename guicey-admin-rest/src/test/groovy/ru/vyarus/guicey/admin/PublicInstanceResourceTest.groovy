@@ -0,0 +1,86 @@
+package ru.vyarus.guicey.admin
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import org.glassfish.jersey.process.Inflector
+import org.glassfish.jersey.server.model.Resource
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.admin.rest.AdminResource
+
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.core.MediaType
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(App)
+class PublicInstanceResourceTest extends AbstractTest {
+
+    def "Check public resources overlapping admin path"() {
+
+        when: "admin only rest"
+        new URL("http://localhost:8080/items/12").getText()
+        then: "not accessible"
+        thrown(FileNotFoundException)
+
+        when: "public instance resource, matching admin template"
+        def res = new URL("http://localhost:8080/items/public").getText()
+        then: "ok"
+        res == "public"
+
+        when: "public programmatic resource, matching admin template"
+        res = new URL("http://localhost:8080/items/model").getText()
+        then: "ok"
+        res == "model"
+
+        when: "admin rest"
+        res = new URL("http://localhost:8081/api/items/12").getText()
+        then: "ok"
+        res == "12"
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(AdminItems)
+                    .bundles(new AdminRestBundle())
+                    .build()
+            )
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+            environment.jersey().register(new PublicItems())
+            Resource.Builder model = Resource.builder("/items/model")
+            model.addMethod("GET").produces(MediaType.TEXT_PLAIN_TYPE).handledBy({ ctx -> "model" } as Inflector)
+            environment.jersey().getResourceConfig().registerResources(model.build())
+        }
+    }
+
+    @Path("/items")
+    @AdminResource
+    static class AdminItems {
+
+        @GET
+        @Path("/{id}")
+        String get(@javax.ws.rs.PathParam("id") String id) {
+            return id
+        }
+    }
+
+    @Path("/items/public")
+    static class PublicItems {
+
+        @GET
+        String get() {
+            return "public"
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ru.vyarus.guicey.admin.instance
+
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+
+/**
+ * Admin resource registered as instance (not available for classpath scan).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Path("/instance")
+@ru.vyarus.guicey.admin.rest.AdminResource
+class InstanceAdminResource {
+
+    @GET
+    @Path("/")
+    public String hello() {
+        return "instance"
+    }
+}
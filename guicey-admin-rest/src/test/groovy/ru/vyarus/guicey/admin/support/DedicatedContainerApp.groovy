@@ -0,0 +1,30 @@
+package ru.vyarus.guicey.admin.support
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.guicey.admin.AdminRestBundle
+import ru.vyarus.guicey.admin.instance.InstanceAdminResource
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class DedicatedContainerApp extends Application<Configuration> {
+
+    @Override
+    void initialize(Bootstrap<Configuration> bootstrap) {
+        bootstrap.addBundle(GuiceBundle.builder()
+                .enableAutoConfig(getClass().package.name)
+                .bundles(new AdminRestBundle().dedicatedContainer())
+                .build()
+        );
+    }
+
+    @Override
+    void run(Configuration configuration, Environment environment) throws Exception {
+        environment.jersey().register(new InstanceAdminResource())
+    }
+}
@@ -0,0 +1,96 @@
+package ru.vyarus.guicey.eventbus.jdbi3;
+
+import com.google.common.eventbus.EventBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction-aware events publisher. When called inside unit of work, events are not delivered immediately,
+ * but collected and posted into {@link EventBus} (in publication order) only after successful unit completion
+ * (after commit). All collected events are discarded if transaction is rolled back. Outside of unit of work
+ * events are posted immediately.
+ * <p>
+ * Events, posted inside failed nested transaction (declared inside already started unit of work), are also
+ * discarded, even if outer unit completes successfully (e.g. when failure is handled in outer transaction or
+ * in manually started unit).
+ * <p>
+ * Events are delivered as one batch after unit handle close, so listeners never hold the connection of
+ * publishing transaction. Events, posted from listeners (outside of unit of work) are delivered immediately.
+ * <p>
+ * Inject {@link EventBus} directly for events which must be delivered immediately, even inside transaction.
+ *
+ * @author Vyacheslav Rusakov
+ * @see UnitManager#afterCommit(Runnable) used to delay delivery
+ * @since 18.10.2026
+ */
+@Singleton
+public class TxEventBus {
+    private final Logger logger = LoggerFactory.getLogger(TxEventBus.class);
+
+    private final EventBus eventbus;
+    private final UnitManager manager;
+    private final ThreadLocal<List<Object>> pending = new ThreadLocal<>();
+
+    @Inject
+    public TxEventBus(final EventBus eventbus, final UnitManager manager) {
+        this.eventbus = eventbus;
+        this.manager = manager;
+    }
+
+    /**
+     * Post event after current transaction commit or immediately, if called outside of unit of work.
+     *
+     * @param event event to post
+     */
+    public void post(final Object event) {
+        if (manager.isUnitStarted()) {
+            final List<Object> events = pending.get() == null ? startBatch() : pending.get();
+            events.add(event);
+            if (manager.isNestedStarted()) {
+                manager.afterNestedRollback(() -> discard(events, event));
+            }
+        } else {
+            eventbus.post(event);
+        }
+    }
+
+    /**
+     * @return count of events waiting for current transaction commit (0 when called outside of unit of work)
+     */
+    public int getPendingCount() {
+        final List<Object> events = pending.get();
+        return events == null ? 0 : events.size();
+    }
+
+    private void discard(final List<Object> events, final Object event) {
+        // search by identity from the end: equal events could be posted in different transactions
+        for (int i = events.size() - 1; i >= 0; i--) {
+            if (events.get(i) == event) {
+                events.remove(i);
+                logger.debug("Event {} discarded due to nested transaction failure", event);
+                break;
+            }
+        }
+    }
+
+    private List<Object> startBatch() {
+        final List<Object> events = new ArrayList<>();
+        pending.set(events);
+        manager.afterCommit(() -> {
+            pending.remove();
+            logger.trace("Delivering {} events after commit", events.size());
+            events.forEach(eventbus::post);
+        });
+        manager.afterRollback(() -> {
+            pending.remove();
+            logger.debug("{} events discarded due to transaction rollback", events.size());
+        });
+        return events;
+    }
+}
@@ -0,0 +1,33 @@
+package ru.vyarus.guicey.eventbus.jdbi3;
+
+import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
+import ru.vyarus.guicey.eventbus.jdbi3.module.TxEventBusModule;
+
+/**
+ * Binds {@link TxEventBus} for publishing events after transaction commit. Events posted with
+ * {@link TxEventBus} inside unit of work (e.g. inside method annotated with
+ * {@link ru.vyarus.guicey.jdbi3.tx.InTransaction}) are delivered only after successful commit and
+ * discarded on rollback.
+ * <p>
+ * Bundle requires both {@link ru.vyarus.guicey.eventbus.EventBusBundle} and {@link ru.vyarus.guicey.jdbi3.JdbiBundle}
+ * to be registered:
+ * <pre><code>
+ *     GuiceBundle.builder()
+ *          .bundles(new EventBusBundle(),
+ *                   JdbiBundle.forDatabase((conf, env) -&gt; conf.getDatabase()),
+ *                   new TxEventBusBundle())
+ * </code></pre>
+ * <p>
+ * Only one bundle instance will be actually used (in case of multiple registrations).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TxEventBusBundle extends UniqueGuiceyBundle {
+
+    @Override
+    public void run(final GuiceyEnvironment environment) {
+        environment.modules(new TxEventBusModule());
+    }
+}
@@ -0,0 +1,20 @@
+package ru.vyarus.guicey.eventbus.jdbi3.module;
+
+import com.google.inject.AbstractModule;
+import ru.vyarus.guicey.eventbus.jdbi3.TxEventBus;
+
+/**
+ * Binds {@link TxEventBus} for transaction-aware events publishing. Requires
+ * {@link com.google.common.eventbus.EventBus} and {@link ru.vyarus.guicey.jdbi3.unit.UnitManager} bindings
+ * (registered by eventbus and jdbi3 bundles).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TxEventBusModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        bind(TxEventBus.class);
+    }
+}
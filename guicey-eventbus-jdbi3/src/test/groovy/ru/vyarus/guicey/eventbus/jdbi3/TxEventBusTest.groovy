@@ -0,0 +1,148 @@
+package ru.vyarus.guicey.eventbus.jdbi3
+
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import org.jdbi.v3.core.Jdbi
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.EventBusBundle
+import ru.vyarus.guicey.jdbi3.JdbiBundle
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class TxEventBusTest extends Specification {
+
+    @Inject
+    TxEventBus bus
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+    @Inject
+    Listener listener // trigger JIT binding
+
+    void setup() {
+        listener.events.clear()
+    }
+
+    def "Check delivery after commit"() {
+
+        when: "post events in transaction"
+        template.inTransaction({
+            bus.post(new Event(value: 1))
+            template.inTransaction({ bus.post(new Event(value: 2)) })
+            assert bus.pendingCount == 2
+            assert listener.events.isEmpty()
+        })
+        then: "delivered after commit in publication order"
+        listener.events*.value == [1, 2]
+        bus.pendingCount == 0
+    }
+
+    def "Check events discarded on rollback"() {
+
+        when: "post events in failed transaction"
+        template.inTransaction({
+            bus.post(new Event(value: 1))
+            throw new IllegalStateException("ups")
+        })
+        then: "not delivered"
+        thrown(IllegalStateException)
+        listener.events.isEmpty()
+        bus.pendingCount == 0
+
+        when: "post in next transaction"
+        template.inTransaction({ bus.post(new Event(value: 2)) })
+        then: "only new event delivered"
+        listener.events*.value == [2]
+    }
+
+    def "Check events of failed nested transaction discarded"() {
+
+        when: "nested transaction fails inside manual unit"
+        manager.beginUnit()
+        try {
+            template.inTransaction({ bus.post(new Event(value: 1)) })
+            try {
+                template.inTransaction({
+                    bus.post(new Event(value: 2))
+                    throw new IllegalStateException("ups")
+                })
+            } catch (IllegalStateException ignored) {
+            }
+            assert bus.pendingCount == 1
+        } finally {
+            manager.endUnit()
+        }
+        then: "only events of successful transaction delivered"
+        listener.events*.value == [1]
+        bus.pendingCount == 0
+
+        when: "nested transaction fails inside transaction"
+        listener.events.clear()
+        template.inTransaction({
+            bus.post(new Event(value: 1))
+            try {
+                template.inTransaction({
+                    bus.post(new Event(value: 2))
+                    throw new IllegalStateException("ups")
+                })
+            } catch (IllegalStateException ignored) {
+            }
+            bus.post(new Event(value: 3))
+        })
+        then: "events of failed nested transaction discarded"
+        listener.events*.value == [1, 3]
+    }
+
+    def "Check immediate delivery outside of transaction"() {
+
+        when: "post event"
+        bus.post(new Event(value: 1))
+        then: "delivered"
+        listener.events*.value == [1]
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle(),
+                            JdbiBundle.forDbi { conf, env -> Jdbi.create('jdbc:h2:mem:txevents') },
+                            new TxEventBusBundle())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Event {
+        int value
+    }
+
+    @Singleton
+    static class Listener {
+
+        List<Event> events = []
+
+        @Subscribe
+        void onEvent(Event event) {
+            events << event
+        }
+    }
+}
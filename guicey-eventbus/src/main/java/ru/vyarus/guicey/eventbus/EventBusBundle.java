@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.eventbus;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.eventbus.EventBus;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
@@ -8,6 +9,7 @@ import ru.vyarus.dropwizard.guice.module.context.unique.item.UniqueGuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.guicey.eventbus.module.EventBusModule;
 import ru.vyarus.guicey.eventbus.module.TypeLiteralAdapterMatcher;
+import ru.vyarus.guicey.eventbus.partition.PartitionedEventBus;
 import ru.vyarus.guicey.eventbus.report.EventSubscribersReporter;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
 
@@ -21,15 +23,16 @@ import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
  *     new EventBusBundle(myCustomBus)
  * </code></pre>
  * <p>
+ * To handle events asynchronously, but preserving order for events with the same key, use
+ * {@link PartitionedEventBus} (its metrics are registered in dropwizard metrics and lanes are shut down with
+ * application).
+ * <p>
  * You can reduce amount of classes checked for listener methods by providing custom types matcher. For example,
  * <pre><code>
  *     new EventBusBundle()
  *          .withMatcher(Matchers.inSubpackage("some.package"))
  * </code></pre>
  * <p>
- * Reflection is used for registered listeners printing (no way otherwise to get registered subscribers).
- * If there will be any problems with it, simply disable reporting.
- * <p>
  * Only one bundle instance will be actually used (in case of multiple registrations).
  *
  * @author Vyacheslav Rusakov
@@ -52,7 +55,7 @@ public class EventBusBundle extends UniqueGuiceyBundle {
 
     /**
      * Registers custom event bus. Use this constructor to customize event bus or to switch to
-     * {@link com.google.common.eventbus.AsyncEventBus}.
+     * {@link com.google.common.eventbus.AsyncEventBus} or {@link PartitionedEventBus}.
      *
      * @param eventbus event bus instance
      */
@@ -79,9 +82,6 @@ public class EventBusBundle extends UniqueGuiceyBundle {
 
     /**
      * If you have a lot of listeners or events or simply don't want console reporting use this method.
-     * <p>
-     * Disabling reporting will also disable reflective access to eventbus internals, so disable it if you have
-     * problems (for example, new guava version renamed field).
      *
      * @return bundle instance for chained calls
      */
@@ -94,6 +94,13 @@ public class EventBusBundle extends UniqueGuiceyBundle {
     public void run(final GuiceyEnvironment environment) {
         environment.modules(new EventBusModule(eventbus, typeMatcher));
 
+        if (eventbus instanceof PartitionedEventBus) {
+            final PartitionedEventBus bus = (PartitionedEventBus) eventbus;
+            environment.manage(bus);
+            environment.environment().metrics()
+                    .register(MetricRegistry.name(PartitionedEventBus.class, bus.identifier()), bus);
+        }
+
         if (report) {
             // report after application startup to count events, resolved from JIT-created services (not declared)
             environment.onApplicationStartup(injector -> {
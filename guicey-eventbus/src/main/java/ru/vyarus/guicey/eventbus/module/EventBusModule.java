@@ -1,7 +1,9 @@
 package ru.vyarus.guicey.eventbus.module;
 
+import com.google.common.base.Preconditions;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
@@ -9,13 +11,20 @@ import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
 import ru.vyarus.guicey.eventbus.service.EventSubscribersInfo;
+import ru.vyarus.guicey.eventbus.service.EventSubscribersRegistry;
 
 import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Module binds provided {@link EventBus} instance. Publishers should inject event bus for posting events.
  * Listeners must only define method with event as argument and annotated with {@link Subscribe}. All guice beans
  * with annotated methods registered automatically.
+ * <p>
+ * Listener methods are resolved once for each bean type (in type listener) and only beans with listener methods
+ * are registered in event bus. All registrations are tracked in {@link EventSubscribersRegistry}.
  *
  * @author Vyacheslav Rusakov
  * @see EventSubscribersInfo guice bean registered for programmatic subscribers info access
@@ -25,6 +34,7 @@ public class EventBusModule extends AbstractModule {
 
     private final EventBus eventbus;
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private final EventSubscribersRegistry registry = new EventSubscribersRegistry();
 
     public EventBusModule(final EventBus eventbus,
                           final Matcher<? super TypeLiteral<?>> typeMatcher) {
@@ -35,20 +45,51 @@ public class EventBusModule extends AbstractModule {
     @Override
     protected void configure() {
         bind(EventBus.class).toInstance(eventbus);
+        bind(EventSubscribersRegistry.class).toInstance(registry);
         bind(EventSubscribersInfo.class).in(Singleton.class);
 
         bindListener();
     }
 
-    @SuppressWarnings("unchecked")
     private void bindListener() {
         bindListener(typeMatcher, new TypeListener() {
             @Override
             public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
-                // register all beans: event bus will introspect each class and register found listeners
-                // duplicate registrations are valid (internal event bus cache will handle it)
-                encounter.register((InjectionListener) eventbus::register);
+                final Class<? super I> beanType = type.getRawType();
+                final Set<Class> events = findListenedEvents(beanType);
+                // register only beans with listener methods (event bus will introspect class again, but
+                // it would be cached there)
+                if (!events.isEmpty()) {
+                    encounter.register((InjectionListener<I>) injectee -> {
+                        eventbus.register(injectee);
+                        registry.register(beanType, events, injectee);
+                    });
+                }
             }
         });
     }
+
+    /**
+     * Search for listener methods the same way as event bus does (all methods in class hierarchy).
+     * Fails on incorrect listener methods (the same way as event bus registration).
+     *
+     * @param type bean type
+     * @return listened event types or empty set if type is not an event listener
+     * @throws IllegalArgumentException if listener method has not exactly one parameter
+     */
+    private Set<Class> findListenedEvents(final Class<?> type) {
+        final Set<Class> res = new HashSet<>();
+        for (Class<?> cls : TypeToken.of(type).getTypes().rawTypes()) {
+            for (Method method : cls.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && !method.isSynthetic()) {
+                    Preconditions.checkArgument(method.getParameterCount() == 1,
+                            "Method %s has @Subscribe annotation but has %s parameters. "
+                                    + "Subscriber methods must have exactly 1 parameter.",
+                            method, method.getParameterCount());
+                    res.add(method.getParameterTypes()[0]);
+                }
+            }
+        }
+        return res;
+    }
 }
@@ -0,0 +1,22 @@
+package ru.vyarus.guicey.eventbus.partition;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks event field or method (without parameters) providing event partition key for {@link PartitionedEventBus}.
+ * All events with the same key are handled in order (in one lane). Alternative to {@link PartitionedEvent}
+ * interface.
+ * <p>
+ * Key must provide correct {@link Object#hashCode()} (e.g. entity id). Null key means event could be handled
+ * in any lane.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PartitionKey {
+}
@@ -0,0 +1,75 @@
+package ru.vyarus.guicey.eventbus.partition;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves event partition key from {@link PartitionedEvent} interface or {@link PartitionKey} annotation.
+ * Annotation lookup is performed only once for each event type.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PartitionKeyResolver {
+
+    private static final Function<Object, Object> NO_KEY = event -> null;
+
+    private final Map<Class<?>, Function<Object, Object>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param event event instance
+     * @return event partition key or null if event is not partitioned
+     */
+    public Object resolve(final Object event) {
+        if (event instanceof PartitionedEvent) {
+            return ((PartitionedEvent) event).getPartitionKey();
+        }
+        return cache.computeIfAbsent(event.getClass(), this::findAccessor).apply(event);
+    }
+
+    private Function<Object, Object> findAccessor(final Class<?> type) {
+        Class<?> cls = type;
+        while (cls != null && cls != Object.class) {
+            for (Method method : cls.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(PartitionKey.class)) {
+                    if (method.getParameterCount() > 0) {
+                        throw new IllegalStateException(String.format(
+                                "Partition key method %s.%s must not have parameters",
+                                cls.getName(), method.getName()));
+                    }
+                    method.setAccessible(true);
+                    return event -> invoke(method, event);
+                }
+            }
+            for (Field field : cls.getDeclaredFields()) {
+                if (field.isAnnotationPresent(PartitionKey.class)) {
+                    field.setAccessible(true);
+                    return event -> read(field, event);
+                }
+            }
+            cls = cls.getSuperclass();
+        }
+        return NO_KEY;
+    }
+
+    private static Object invoke(final Method method, final Object event) {
+        try {
+            return method.invoke(event);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to resolve event partition key from method "
+                    + method.getName(), ex);
+        }
+    }
+
+    private static Object read(final Field field, final Object event) {
+        try {
+            return field.get(event);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to resolve event partition key from field "
+                    + field.getName(), ex);
+        }
+    }
+}
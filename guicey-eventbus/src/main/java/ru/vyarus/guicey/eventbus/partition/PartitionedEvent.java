@@ -0,0 +1,18 @@
+package ru.vyarus.guicey.eventbus.partition;
+
+/**
+ * Event with partition key for {@link PartitionedEventBus}. All events with the same key are handled in order
+ * (in one lane). As an alternative, {@link PartitionKey} annotation could be used.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface PartitionedEvent {
+
+    /**
+     * Key must provide correct {@link Object#hashCode()} (e.g. entity id).
+     *
+     * @return event partition key or null to handle event in any lane
+     */
+    Object getPartitionKey();
+}
@@ -0,0 +1,179 @@
+package ru.vyarus.guicey.eventbus.partition;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.SubscriberExceptionHandler;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous event bus preserving events order for the same partition key. Events are processed in N lanes
+ * (single thread each): all events with the same key are handled in one lane (in publication order) and events with
+ * different keys are handled in parallel (in different lanes). Events without key are distributed between lanes
+ * with round-robin (no order guarantees).
+ * <p>
+ * Event declares partition key by implementing {@link PartitionedEvent} or with {@link PartitionKey} annotation.
+ * <p>
+ * Note that by default guava synchronizes each listener method (only one event processed by method at a time),
+ * so mark listener methods with {@link com.google.common.eventbus.AllowConcurrentEvents} to process events in
+ * parallel (order for the same key would still be preserved by lanes).
+ * <p>
+ * Bus provides per-lane metrics: dispatch timer, pending events count and approximate lane utilization (busy time
+ * fraction, based on one-minute rate). When used with {@link ru.vyarus.guicey.eventbus.EventBusBundle}, metrics
+ * are registered in dropwizard metrics registry and lanes shut down with application.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PartitionedEventBus extends EventBus implements MetricSet, Managed {
+
+    private final Lane[] lanes;
+    private final PartitionKeyResolver keyResolver = new PartitionKeyResolver();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    /**
+     * Creates bus with default exception handler (logging).
+     *
+     * @param lanes lanes count (parallel threads)
+     */
+    public PartitionedEventBus(final int lanes) {
+        this("bus", lanes);
+    }
+
+    /**
+     * Creates bus with default exception handler (logging).
+     *
+     * @param identifier bus identifier (used for lane thread names)
+     * @param lanes      lanes count (parallel threads)
+     */
+    public PartitionedEventBus(final String identifier, final int lanes) {
+        super(identifier);
+        this.lanes = createLanes(lanes);
+    }
+
+    /**
+     * Creates bus with custom exception handler.
+     *
+     * @param lanes            lanes count (parallel threads)
+     * @param exceptionHandler subscriber exception handler
+     */
+    public PartitionedEventBus(final int lanes, final SubscriberExceptionHandler exceptionHandler) {
+        super(exceptionHandler);
+        this.lanes = createLanes(lanes);
+    }
+
+    /**
+     * Post event into lane, selected by event partition key. Method returns immediately.
+     *
+     * @param event event to post
+     * @throws java.util.concurrent.RejectedExecutionException if bus was stopped
+     */
+    @Override
+    public void post(final Object event) {
+        lanes[selectLane(event)].submit(event);
+    }
+
+    /**
+     * @return lanes count
+     */
+    public int getLanesCount() {
+        return lanes.length;
+    }
+
+    /**
+     * @param lane lane index
+     * @return count of events waiting for processing in lane
+     */
+    public int getPendingCount(final int lane) {
+        return lanes[lane].executor.getQueue().size();
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        final Map<String, Metric> res = new HashMap<>();
+        for (int i = 0; i < lanes.length; i++) {
+            final Lane lane = lanes[i];
+            final String prefix = "lane-" + i + ".";
+            res.put(prefix + "dispatches", lane.timer);
+            res.put(prefix + "pending", (Gauge<Integer>) () -> lane.executor.getQueue().size());
+            res.put(prefix + "utilization", (Gauge<Double>) lane::utilization);
+        }
+        return res;
+    }
+
+    @Override
+    public void start() throws Exception {
+        // lanes started on creation
+    }
+
+    /**
+     * Stops accepting new events and waits for already posted events processing.
+     *
+     * @throws Exception on interruption
+     */
+    @Override
+    public void stop() throws Exception {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes) {
+            lane.executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private Lane[] createLanes(final int count) {
+        Preconditions.checkArgument(count > 0, "At least one lane required");
+        final Lane[] res = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            res[i] = new Lane(identifier() + "-lane-" + i);
+        }
+        return res;
+    }
+
+    private int selectLane(final Object event) {
+        final Object key = keyResolver.resolve(event);
+        return Math.floorMod(key == null ? roundRobin.getAndIncrement() : key.hashCode(), lanes.length);
+    }
+
+    private void dispatch(final Object event) {
+        super.post(event);
+    }
+
+    /**
+     * Single thread events processing lane.
+     */
+    private class Lane {
+        private final ThreadPoolExecutor executor;
+        private final Timer timer = new Timer();
+
+        Lane(final String name) {
+            executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder().setNameFormat(name).setDaemon(true).build());
+        }
+
+        void submit(final Object event) {
+            executor.execute(() -> {
+                try (Timer.Context ignored = timer.time()) {
+                    dispatch(event);
+                }
+            });
+        }
+
+        double utilization() {
+            // events per second * average processing time (in seconds)
+            return Math.min(1d, timer.getOneMinuteRate() * timer.getSnapshot().getMean()
+                    / TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
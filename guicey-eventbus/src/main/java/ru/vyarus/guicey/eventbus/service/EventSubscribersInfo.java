@@ -1,29 +1,27 @@
 package ru.vyarus.guicey.eventbus.service;
 
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.SubscriptionIntrospector;
-
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Set;
 
 /**
- * Holds registered event listeners. Will contain nothing if tracking disabled.
- * Service registered in guice and may be injected directly (e.g. for unit tests).
+ * Holds registered event listeners. Service registered in guice and may be injected directly (e.g. for unit tests).
+ * <p>
+ * Only listeners registered through guice are known (manual event bus registrations are not tracked).
+ * All queries are served from {@link EventSubscribersRegistry} index, without event bus introspection.
  *
  * @author Vyacheslav Rusakov
  * @since 12.10.2016
  */
 @Singleton
 public class EventSubscribersInfo {
-    private final SubscriptionIntrospector introspector;
+    private final EventSubscribersRegistry registry;
 
     @Inject
-    public EventSubscribersInfo(final EventBus eventbus) {
-        this.introspector = new SubscriptionIntrospector(eventbus);
+    public EventSubscribersInfo(final EventSubscribersRegistry registry) {
+        this.registry = registry;
     }
 
-
     /**
      * May return not just event types, because method could listen for events abstract type or
      * {@link Object} to receive all events.
@@ -31,7 +29,7 @@ public class EventSubscribersInfo {
      * @return set of events with known subscribers or empty set
      */
     public Set<Class> getListenedEvents() {
-        return introspector.getListenedEvents();
+        return registry.getListenedEvents();
     }
 
     /**
@@ -42,7 +40,7 @@ public class EventSubscribersInfo {
      * @return collection of classes listening for event type, or empty list
      */
     public Set<Class> getListenerTypes(final Class<?> event) {
-        return introspector.getSubscriberTypes(event);
+        return registry.getSubscriberTypes(event);
     }
 
     /**
@@ -53,6 +51,6 @@ public class EventSubscribersInfo {
      * @return collection of instances listening for event type, or empty list
      */
     public Set<Object> getListeners(final Class<?> event) {
-        return introspector.getSubscribers(event);
+        return registry.getSubscribers(event);
     }
 }
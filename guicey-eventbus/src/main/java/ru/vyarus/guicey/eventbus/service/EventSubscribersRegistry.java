@@ -0,0 +1,62 @@
+package ru.vyarus.guicey.eventbus.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of registered event subscribers. Filled by guice type listener (together with event bus registration),
+ * so there is no need to access event bus internals. Index is concurrent as subscribers could be registered at
+ * any time (JIT-created and prototype beans).
+ * <p>
+ * Returned collections are live unmodifiable views (no copies created).
+ *
+ * @author Vyacheslav Rusakov
+ * @see EventSubscribersInfo for usage
+ * @since 18.10.2026
+ */
+public class EventSubscribersRegistry {
+
+    private final Map<Class, Set<Class>> types = new ConcurrentHashMap<>();
+    private final Map<Class, Set<Object>> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Register subscriber instance.
+     *
+     * @param type     subscriber type (without guice AOP proxy)
+     * @param events   events, listened by subscriber type
+     * @param instance subscriber instance
+     */
+    public void register(final Class type, final Set<Class> events, final Object instance) {
+        for (Class event : events) {
+            types.computeIfAbsent(event, key -> ConcurrentHashMap.newKeySet()).add(type);
+            instances.computeIfAbsent(event, key -> ConcurrentHashMap.newKeySet()).add(instance);
+        }
+    }
+
+    /**
+     * @return set of events with known subscribers or empty set
+     */
+    public Set<Class> getListenedEvents() {
+        return Collections.unmodifiableSet(instances.keySet());
+    }
+
+    /**
+     * @param event event type
+     * @return subscriber instances for event or empty set
+     */
+    public Set<Object> getSubscribers(final Class event) {
+        final Set<Object> res = instances.get(event);
+        return res == null ? Collections.emptySet() : Collections.unmodifiableSet(res);
+    }
+
+    /**
+     * @param event event type
+     * @return subscriber types for event or empty set
+     */
+    public Set<Class> getSubscriberTypes(final Class event) {
+        final Set<Class> res = types.get(event);
+        return res == null ? Collections.emptySet() : Collections.unmodifiableSet(res);
+    }
+}
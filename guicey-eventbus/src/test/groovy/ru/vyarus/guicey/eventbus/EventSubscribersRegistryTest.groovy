@@ -0,0 +1,93 @@
+package ru.vyarus.guicey.eventbus
+
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.matcher.Matchers
+import ru.vyarus.guicey.eventbus.module.EventBusModule
+import ru.vyarus.guicey.eventbus.service.EventSubscribersRegistry
+import ru.vyarus.guicey.eventbus.support.Event1
+import ru.vyarus.guicey.eventbus.support.Event2
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class EventSubscribersRegistryTest extends Specification {
+
+    Injector injector = Guice.createInjector(new EventBusModule(new EventBus(), Matchers.any()))
+    EventSubscribersRegistry registry = injector.getInstance(EventSubscribersRegistry)
+
+    def "Check inherited subscribers registration"() {
+
+        when: "creating listener with inherited subscriber methods"
+        Child child = injector.getInstance(Child)
+
+        then: "all hierarchy methods registered"
+        registry.getListenedEvents() == [Event1, Event2] as Set
+        registry.getSubscribers(Event1) == [child] as Set
+        registry.getSubscribers(Event2) == [child] as Set
+        registry.getSubscriberTypes(Event1) == [Child] as Set
+
+        when: "event posted"
+        injector.getInstance(EventBus).post(new Event1())
+
+        then: "inherited method called"
+        child.base == 1
+        child.child == 0
+    }
+
+    def "Check bean without subscribers not registered"() {
+
+        when: "creating bean without subscriber methods"
+        injector.getInstance(NoSubscribers)
+
+        then: "not registered"
+        registry.getListenedEvents().isEmpty()
+        registry.getSubscriberTypes(Event1).isEmpty()
+    }
+
+    def "Check incorrect subscriber method"() {
+
+        when: "creating listener with two parameters method"
+        injector.getInstance(WrongArity)
+
+        then: "failed"
+        def ex = thrown(Exception)
+        ex.message.contains("Subscriber methods must have exactly 1 parameter")
+        registry.getListenedEvents().isEmpty()
+    }
+
+    static class Base {
+        int base
+
+        @Subscribe
+        void onEvent1(Event1 event) {
+            base++
+        }
+    }
+
+    static class Child extends Base {
+        int child
+
+        @Subscribe
+        void onEvent2(Event2 event) {
+            child++
+        }
+    }
+
+    static class NoSubscribers {
+
+        void onEvent1(Event1 event) {
+        }
+    }
+
+    static class WrongArity {
+
+        @Subscribe
+        void onEvent(Event1 event, Event2 event2) {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.vyarus.guicey.eventbus
+
+import com.codahale.metrics.MetricRegistry
+import com.google.common.eventbus.AllowConcurrentEvents
+import com.google.common.eventbus.EventBus
+import com.google.common.eventbus.Subscribe
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.eventbus.partition.PartitionKey
+import ru.vyarus.guicey.eventbus.partition.PartitionedEvent
+import ru.vyarus.guicey.eventbus.partition.PartitionedEventBus
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class PartitionedBusTest extends Specification {
+
+    @Inject
+    EventBus bus
+    @Inject
+    Service service // trigger JIT binding
+    @Inject
+    Environment environment
+
+    def "Check ordered processing"() {
+
+        setup:
+        service.latch = new CountDownLatch(200)
+
+        when: "publish events for different keys"
+        (1..100).each {
+            bus.post(new KeyEvent(key: it % 4, seq: it))
+            bus.post(new AnnEvent(key: it % 4, seq: it))
+        }
+        then: "events processed in order for each key"
+        service.latch.await(5, TimeUnit.SECONDS)
+        service.events.keySet().size() == 8
+        service.events.values().every { it == it.toSorted() }
+        service.threads.size() > 1
+    }
+
+    def "Check metrics"() {
+
+        expect: "lane metrics registered"
+        bus instanceof PartitionedEventBus
+        MetricRegistry metrics = environment.metrics()
+        (0..3).every {
+            metrics.timers.containsKey("ru.vyarus.guicey.eventbus.partition.PartitionedEventBus.bus.lane-${it}.dispatches".toString())
+        }
+        metrics.gauges.keySet().findAll { it.contains('PartitionedEventBus') }.size() == 8
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new EventBusBundle(new PartitionedEventBus(4)))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class KeyEvent implements PartitionedEvent {
+        int key
+        int seq
+
+        @Override
+        Object getPartitionKey() {
+            return key
+        }
+    }
+
+    static class AnnEvent {
+        @PartitionKey
+        int key
+        int seq
+    }
+
+    @Singleton
+    static class Service {
+
+        Map<String, List<Integer>> events = new ConcurrentHashMap<>()
+        Set<String> threads = ConcurrentHashMap.newKeySet()
+        CountDownLatch latch
+
+        @Subscribe
+        @AllowConcurrentEvents
+        void onKeyEvent(KeyEvent event) {
+            record('key' + event.key, event.seq)
+        }
+
+        @Subscribe
+        @AllowConcurrentEvents
+        void onAnnEvent(AnnEvent event) {
+            record('ann' + event.key, event.seq)
+        }
+
+        private void record(String key, int seq) {
+            threads.add(Thread.currentThread().name)
+            events.computeIfAbsent(key, { new CopyOnWriteArrayList<>() }).add(seq)
+            latch.countDown()
+        }
+    }
+}
@@ -15,6 +15,10 @@ import javax.inject.Singleton;
  * Transaction template used to both declare unit of work and start transaction.
  * If called inside of transaction then provided action will be simply executed as transaction is already managed
  * somewhere outside. In case of exception, it's propagated and transaction rolled back.
+ * Actions, registered with {@link UnitManager#afterCommit(Runnable)} or {@link UnitManager#afterRollback(Runnable)},
+ * are called after new transaction completion. Actions, registered with
+ * {@link UnitManager#afterNestedRollback(Runnable)}, are called when action, executed inside already
+ * started unit, fails.
  * <p>
  * Usage:
  * <pre><code>
@@ -65,18 +69,27 @@ public class TransactionTemplate {
     public <T> T inTransaction(final TxConfig config, final TxAction<T> action) {
         if (manager.isUnitStarted()) {
             // already started
+            manager.beginNested();
+            boolean committed = false;
             try {
-                return inCurrentTransaction(config, action);
+                final T res = inCurrentTransaction(config, action);
+                committed = true;
+                return res;
             } catch (Throwable th) {
                 Throwables.throwIfUnchecked(th);
                 throw new RuntimeException(th);
+            } finally {
+                manager.endNested(committed);
             }
         } else {
             manager.beginUnit();
+            boolean committed = false;
             try {
-                return inNewTransaction(config, action);
+                final T res = inNewTransaction(config, action);
+                committed = true;
+                return res;
             } finally {
-                manager.endUnit();
+                manager.endUnit(committed);
             }
         }
     }
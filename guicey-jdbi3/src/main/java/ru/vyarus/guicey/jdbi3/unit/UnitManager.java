@@ -10,6 +10,10 @@ import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 
 /**
  * Manages JDBI {@link Handle} for current unit of work. This handle must be used by all JDBI proxies.
@@ -19,6 +23,11 @@ import javax.inject.Singleton;
  * <p>
  * Raw provider may be injected to obtain current handle: {@code @Inject Provider<Handle>}.
  * In all other cases transaction annotation must be used to wrap code into unit of work using guice aop.
+ * <p>
+ * Actions, which must be performed only after successful unit completion (e.g. notifications), may be registered
+ * with {@link #afterCommit(Runnable)}. Actions are called after handle close, so they never hold unit's connection.
+ * Actions, registered with {@link #afterNestedRollback(Runnable)}, are called immediately when nested
+ * transaction (declared inside already started unit) fails.
  *
  * @author Vyacheslav Rusakov
  * @see TransactionTemplate for manual transaction definition
@@ -31,6 +40,10 @@ public class UnitManager implements Provider<Handle> {
 
     private final Jdbi jdbi;
     private final ThreadLocal<Handle> unit = new ThreadLocal<>();
+    private final ThreadLocal<List<Runnable>> commitActions = new ThreadLocal<>();
+    private final ThreadLocal<List<Runnable>> rollbackActions = new ThreadLocal<>();
+    // rollback actions of currently executed nested transactions (innermost first)
+    private final ThreadLocal<Deque<List<Runnable>>> nestedRollbackActions = new ThreadLocal<>();
 
     @Inject
     public UnitManager(final Jdbi jdbi) {
@@ -62,16 +75,122 @@ public class UnitManager implements Provider<Handle> {
         logger.trace("Transaction start");
     }
 
+    /**
+     * Register action to be executed after successful unit of work completion (after transaction commit).
+     * Actions are executed in registration order, after unit handle is closed, so any database access inside
+     * action would require new unit of work. Action failures are logged and do not affect other actions.
+     * <p>
+     * Actions are discarded if unit of work completes with rollback.
+     *
+     * @param action action to execute after commit
+     * @throws IllegalStateException when no opened unit of work
+     */
+    public void afterCommit(final Runnable action) {
+        register(commitActions, action);
+    }
+
+    /**
+     * Register action to be executed after unit of work rollback (transaction failure). Actions are executed
+     * in registration order, after unit handle is closed. Action failures are logged and do not affect other actions.
+     * <p>
+     * Actions are discarded if unit of work completes successfully.
+     *
+     * @param action action to execute after rollback
+     * @throws IllegalStateException when no opened unit of work
+     */
+    public void afterRollback(final Runnable action) {
+        register(rollbackActions, action);
+    }
+
+    /**
+     * @return true if nested transaction (declared inside already started unit) is executed, false otherwise
+     */
+    public boolean isNestedStarted() {
+        final Deque<List<Runnable>> scopes = nestedRollbackActions.get();
+        return scopes != null && !scopes.isEmpty();
+    }
+
+    /**
+     * Marks nested transaction start: transaction declared inside already started unit of work (for example,
+     * transactional method called from another transactional method or inside manually started unit).
+     * Must be followed by {@link #endNested(boolean)}. Used by {@link TransactionTemplate}.
+     *
+     * @throws IllegalStateException when no opened unit of work
+     */
+    public void beginNested() {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        Deque<List<Runnable>> scopes = nestedRollbackActions.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            nestedRollbackActions.set(scopes);
+        }
+        scopes.push(new ArrayList<>());
+    }
+
+    /**
+     * Finish nested transaction. On failure, {@link #afterNestedRollback(Runnable)} actions of this nested
+     * transaction (including actions of successful inner nested transactions) are called immediately. On success,
+     * actions are passed to the outer nested transaction (if any) to be called in case of its failure.
+     *
+     * @param committed true if nested transaction completed successfully, false if failed
+     * @throws IllegalStateException when no nested transaction started
+     */
+    public void endNested(final boolean committed) {
+        Preconditions.checkState(isNestedStarted(), "Nested transaction not started");
+        final Deque<List<Runnable>> scopes = nestedRollbackActions.get();
+        final List<Runnable> actions = scopes.pop();
+        if (!committed) {
+            runActions(actions, "nested rollback");
+        } else if (!scopes.isEmpty()) {
+            scopes.peek().addAll(actions);
+        }
+    }
+
+    /**
+     * Register action to be executed if current nested transaction fails, even if outer unit of work completes
+     * successfully (failure could be intercepted by outer code). Useful to revert in-memory state, collected
+     * for failed transaction (e.g. pending notifications). Action is executed immediately after nested
+     * transaction failure (inside unit of work). Action failures are logged and do not affect other actions.
+     * <p>
+     * Note that nested transaction failure does not roll back database changes by itself (transaction is managed
+     * by outer unit and manually started unit works in auto-commit mode).
+     *
+     * @param action action to execute after nested transaction failure
+     * @throws IllegalStateException when no nested transaction started
+     */
+    public void afterNestedRollback(final Runnable action) {
+        Preconditions.checkState(isNestedStarted(), "Nested transaction not started");
+        nestedRollbackActions.get().peek().add(action);
+    }
+
     /**
      * Finish unit of work. Note: does not commit transaction, but only close context handle.
+     * Unit considered successful (manual unit without transaction works in auto-commit mode), so
+     * {@link #afterCommit(Runnable)} actions will be called.
      *
      * @throws IllegalStateException when no opened unit of work
      */
     public void endUnit() {
+        endUnit(true);
+    }
+
+    /**
+     * Finish unit of work. Note: does not commit transaction, but only close context handle.
+     * After handle close, either {@link #afterCommit(Runnable)} or {@link #afterRollback(Runnable)} actions
+     * are called, depending on unit outcome.
+     *
+     * @param committed true if unit changes were committed, false if rolled back
+     * @throws IllegalStateException when no opened unit of work
+     */
+    public void endUnit(final boolean committed) {
         Preconditions.checkState(isUnitStarted(), "Stop called outside of unit of work");
         final Handle handle = unit.get();
+        final List<Runnable> actions = (committed ? commitActions : rollbackActions).get();
         // first remove handle to avoid stale handles in any case
         unit.remove();
+        commitActions.remove();
+        rollbackActions.remove();
+        nestedRollbackActions.remove();
         try {
             handle.close();
         } catch (Exception ex) {
@@ -80,5 +199,28 @@ public class UnitManager implements Provider<Handle> {
             logger.warn("JDBI handle close error ({})", ex.getMessage());
         }
         logger.trace("Transaction end");
+        if (actions != null) {
+            runActions(actions, committed ? "commit" : "rollback");
+        }
+    }
+
+    private void register(final ThreadLocal<List<Runnable>> storage, final Runnable action) {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        List<Runnable> actions = storage.get();
+        if (actions == null) {
+            actions = new ArrayList<>();
+            storage.set(actions);
+        }
+        actions.add(action);
+    }
+
+    private void runActions(final List<Runnable> actions, final String phase) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (Exception ex) {
+                logger.error("Failed to execute after " + phase + " action", ex);
+            }
+        }
     }
 }
@@ -7,6 +7,7 @@ import ru.vyarus.guicey.jdbi3.support.model.Sample
 import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
 import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
 
 import javax.inject.Inject
 
@@ -24,6 +25,8 @@ class TxTest extends AbstractAppTest {
     Provider<Handle> handle
     @Inject
     TransactionTemplate template
+    @Inject
+    UnitManager manager
 
     def "Check handle access"() {
 
@@ -97,4 +100,104 @@ class TxTest extends AbstractAppTest {
         thrown(IllegalStateException)
         repo.all().isEmpty()
     }
-}
\ No newline at end of file
+
+    def "Check after commit actions"() {
+
+        when: "register actions in tx"
+        List<String> calls = []
+        template.inTransaction({
+            manager.afterCommit { calls << 'commit' }
+            manager.afterRollback { calls << 'rollback' }
+            template.inTransaction({
+                // nested tx registers into the same unit
+                manager.afterCommit { calls << 'nested commit' }
+            })
+            assert calls.isEmpty()
+        })
+        then: "commit actions called"
+        calls == ['commit', 'nested commit']
+
+        when: "action fails"
+        calls.clear()
+        template.inTransaction({
+            manager.afterCommit { throw new IllegalStateException("ups") }
+            manager.afterCommit { calls << 'commit' }
+        })
+        then: "failure isolated"
+        calls == ['commit']
+    }
+
+    def "Check after rollback actions"() {
+
+        when: "fail tx"
+        List<String> calls = []
+        template.inTransaction({
+            manager.afterCommit { calls << 'commit' }
+            manager.afterRollback { calls << 'rollback' }
+            throw new IllegalStateException("ups")
+        })
+        then: "rollback actions called"
+        thrown(IllegalStateException)
+        calls == ['rollback']
+
+        when: "next tx"
+        calls.clear()
+        template.inTransaction({ repo.all() })
+        then: "no stale actions"
+        calls.isEmpty()
+    }
+
+    def "Check nested rollback actions"() {
+
+        when: "fail nested tx inside successful unit"
+        List<String> calls = []
+        template.inTransaction({
+            template.inTransaction({
+                manager.afterNestedRollback { calls << 'ok nested' }
+            })
+            try {
+                template.inTransaction({
+                    manager.afterNestedRollback { calls << 'failed nested' }
+                    template.inTransaction({
+                        // inner success, but outer nested fails
+                        manager.afterNestedRollback { calls << 'inner nested' }
+                    })
+                    throw new IllegalStateException("ups")
+                })
+            } catch (IllegalStateException ignored) {
+            }
+            assert calls == ['failed nested', 'inner nested']
+            manager.afterCommit { calls << 'commit' }
+        })
+        then: "only failed nested actions called"
+        calls == ['failed nested', 'inner nested', 'commit']
+
+        when: "fail nested tx inside manual unit"
+        calls.clear()
+        manager.beginUnit()
+        try {
+            template.inTransaction({
+                manager.afterNestedRollback { calls << 'manual nested' }
+                throw new IllegalStateException("ups")
+            })
+        } catch (IllegalStateException ignored) {
+        }
+        manager.endUnit()
+        then: "nested actions called"
+        calls == ['manual nested']
+        !manager.isNestedStarted()
+
+        when: "register action outside of nested tx"
+        template.inTransaction({ manager.afterNestedRollback {} })
+        then: "err"
+        thrown(IllegalStateException)
+    }
+
+    def "Check actions outside of unit"() {
+
+        when: "register action without unit"
+        manager.afterCommit {}
+        then: "err"
+        thrown(IllegalStateException)
+    }
+}
@@ -0,0 +1,29 @@
+package ru.vyarus.guicey.annotations.lifecycle;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Asynchronous variant of {@link PostStartup}: annotated methods are called after server startup in background
+ * threads (so server startup is not delayed). Useful for long initializations like caches preloading.
+ * <p>
+ * Until all async methods complete, application health check
+ * ({@link ru.vyarus.guicey.annotations.lifecycle.module.AsyncStartupHealthCheck}) reports not ready state, so load
+ * balancer would not send traffic to not warmed instance. Health check remains unhealthy if any async method fails.
+ * <p>
+ * Methods are executed according to {@link LifecycleOrder}. Methods with the same order could be executed
+ * concurrently (see {@link LifecycleAnnotationsBundle#withAsyncStartupThreads(int)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @see LifecycleAnnotationsBundle
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface AsyncPostStartup {
+}
@@ -9,12 +9,17 @@ import ru.vyarus.guice.ext.core.util.ObjectPackageMatcher;
 import ru.vyarus.guicey.annotations.lifecycle.module.DropwizardLifecycleListener;
 import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
 /**
  * Bundle enabled usage of lifecycle annotations in guice beans. Supported annotations:
  * <ul>
  * <li>{@link javax.annotation.PostConstruct} - same as {@link io.dropwizard.lifecycle.Managed#start()}</li>
  * <li>{@link PostStartup} - called after server startup
  * (dropwizard {@link io.dropwizard.lifecycle.ServerLifecycleListener} used)</li>
+ * <li>{@link AsyncPostStartup} - called after server startup in background thread (with readiness health check)</li>
  * <li>{@link javax.annotation.PreDestroy} - same as {@link io.dropwizard.lifecycle.Managed#stop()}</li>
  * </ul>
  * <p>
@@ -33,6 +38,16 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
  *      builder.bundles(new LifecycleAnnotationsBundle("package.to.apply"))
  * }</pre>
  * (only one instance of bundle will be used)
+ * <p>
+ * Methods are executed according to {@link LifecycleOrder} (if declared). Methods with the same order could be
+ * executed in parallel: {@link #withParallelExecution(int)} (and {@link #withParallelShutdown(int)} for
+ * {@link PreDestroy} methods).
+ * <p>
+ * Shutdown could be limited in time with {@link #withShutdownTimeout(Duration)} and
+ * {@link #withPreDestroyMethodTimeout(Duration)}: stuck methods are interrupted and reported.
+ * <p>
+ * Execution time of each method is registered as metric and the slowest methods are reported after startup
+ * and shutdown (could be disabled with {@link #noReport()}).
  *
  * @author Vyacheslav Rusakov
  * @since 08.11.2018
@@ -40,6 +55,12 @@ import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule;
 public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
 
     private final Matcher<? super TypeLiteral<?>> typeMatcher;
+    private int threads;
+    private int shutdownThreads;
+    private int asyncThreads;
+    private Duration shutdownTimeout;
+    private Duration shutdownMethodTimeout;
+    private boolean report = true;
 
     /**
      * Default module constructor to check annotations on all beans.
@@ -68,10 +89,102 @@ public class LifecycleAnnotationsBundle extends UniqueGuiceyBundle {
         this.typeMatcher = typeMatcher;
     }
 
+    /**
+     * By default, all lifecycle methods are executed sequentially. Enables concurrent execution of
+     * {@link PostConstruct} and {@link PostStartup} methods (useful when these methods warm caches or open
+     * connections). Methods with the same {@link LifecycleOrder} are executed concurrently and methods with greater
+     * order are executed only after all methods with lower order complete (so order declares dependencies).
+     * <p>
+     * Failure of any method still fails startup (other running methods are interrupted).
+     *
+     * @param threads max threads to use for methods execution
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withParallelExecution(final int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * By default, {@link AsyncPostStartup} methods are executed sequentially in one background thread.
+     * Enables concurrent execution of async methods with the same {@link LifecycleOrder}.
+     *
+     * @param threads max threads to use for async methods execution
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withAsyncStartupThreads(final int threads) {
+        this.asyncThreads = threads;
+        return this;
+    }
+
+    /**
+     * By default, {@link PreDestroy} methods are executed sequentially. Enables concurrent execution of
+     * {@link PreDestroy} methods with the same {@link LifecycleOrder} (groups with different order are still
+     * executed one after another). Useful when shutdown methods are slow (e.g. wait for connections close).
+     * <p>
+     * Note that method failures are only logged on shutdown (all methods are always called).
+     *
+     * @param threads max threads to use for methods execution
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withParallelShutdown(final int threads) {
+        this.shutdownThreads = threads;
+        return this;
+    }
+
+    /**
+     * Limits overall {@link PreDestroy} methods execution time (so application shutdown could not hang due to
+     * stuck method). When timeout is reached, all running methods are interrupted and all not yet started
+     * methods are skipped. Interrupted and skipped methods are reported in log.
+     *
+     * @param timeout overall shutdown methods timeout
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withShutdownTimeout(final Duration timeout) {
+        this.shutdownTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * Limits execution time of each {@link PreDestroy} method. Method exceeding timeout is interrupted
+     * (and reported in log) and shutdown proceeds with the next method.
+     * <p>
+     * Note that method ignoring interruption would continue execution in background (daemon) thread.
+     *
+     * @param timeout single shutdown method timeout
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle withPreDestroyMethodTimeout(final Duration timeout) {
+        this.shutdownMethodTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * By default, the slowest lifecycle methods are reported after server startup and after shutdown.
+     * Use this method to disable reporting (execution time metrics would still be registered).
+     *
+     * @return bundle instance for chained calls
+     */
+    public LifecycleAnnotationsBundle noReport() {
+        this.report = false;
+        return this;
+    }
+
     @Override
     public void run(final GuiceyEnvironment environment) {
         final LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(typeMatcher);
-        final DropwizardLifecycleListener lifecycle = new DropwizardLifecycleListener(module.getCollector());
+        if (threads > 0) {
+            module.getCollector().enableParallelExecution(threads, PostConstruct.class, PostStartup.class);
+        }
+        if (shutdownThreads > 0) {
+            module.getCollector().enableParallelExecution(shutdownThreads, PreDestroy.class);
+        }
+        if (asyncThreads > 0) {
+            module.getCollector().enableParallelExecution(asyncThreads, AsyncPostStartup.class);
+        }
+        module.getCollector().setTimeouts(PreDestroy.class, shutdownMethodTimeout, shutdownTimeout);
+        final DropwizardLifecycleListener lifecycle = new DropwizardLifecycleListener(module.getCollector(),
+                environment.environment().metrics(), environment.environment().healthChecks(), report);
 
         environment
                 .modules(module)
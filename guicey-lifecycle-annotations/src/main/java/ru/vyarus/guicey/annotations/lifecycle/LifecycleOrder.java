@@ -0,0 +1,31 @@
+package ru.vyarus.guicey.annotations.lifecycle;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares execution order of lifecycle method (annotated with {@link javax.annotation.PostConstruct},
+ * {@link PostStartup} or {@link javax.annotation.PreDestroy}). Methods with lower order are executed first.
+ * Methods without annotation have order 0. Methods with the same order are executed in registration order.
+ * <p>
+ * With parallel execution enabled ({@link LifecycleAnnotationsBundle#withParallelExecution(int)}) methods with
+ * the same order are executed concurrently and methods with higher order are started only after all methods with
+ * lower order complete. So order could be used to declare dependencies between lifecycle methods.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface LifecycleOrder {
+
+    /**
+     * @return method execution order (lower executed first)
+     */
+    int value();
+}
@@ -0,0 +1,54 @@
+package ru.vyarus.guicey.annotations.lifecycle.module;
+
+import com.codahale.metrics.health.HealthCheck;
+import ru.vyarus.guicey.annotations.lifecycle.AsyncPostStartup;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodInstance;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Readiness health check for {@link AsyncPostStartup} methods: unhealthy until all async methods complete
+ * (and also when any async method fails). Healthy when there are no async methods.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class AsyncStartupHealthCheck extends HealthCheck {
+
+    /**
+     * Health check name.
+     */
+    public static final String NAME = "async-post-startup";
+
+    private final MethodsCollector collector;
+
+    public AsyncStartupHealthCheck(final MethodsCollector collector) {
+        this.collector = collector;
+    }
+
+    @Override
+    protected Result check() throws Exception {
+        final List<MethodInstance> methods = collector.getMethods(AsyncPostStartup.class);
+        final List<String> failed = new ArrayList<>();
+        int running = 0;
+        for (MethodInstance method : methods) {
+            if (method.isFailed() || method.isTimedOut()) {
+                failed.add(method.getName());
+            } else if (!method.isExecuted()) {
+                running++;
+            }
+        }
+        final Result res;
+        if (!failed.isEmpty()) {
+            res = Result.unhealthy("Failed @%s methods: %s", AsyncPostStartup.class.getSimpleName(), failed);
+        } else if (running > 0) {
+            res = Result.unhealthy("Not ready: %s of %s @%s methods not completed",
+                    running, methods.size(), AsyncPostStartup.class.getSimpleName());
+        } else {
+            res = Result.healthy();
+        }
+        return res;
+    }
+}
@@ -1,40 +1,159 @@
 package ru.vyarus.guicey.annotations.lifecycle.module;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheckRegistry;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.lifecycle.ServerLifecycleListener;
 import org.eclipse.jetty.server.Server;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.AsyncPostStartup;
 import ru.vyarus.guicey.annotations.lifecycle.PostStartup;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodInstance;
 import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
+import ru.vyarus.guicey.annotations.lifecycle.module.report.LifecycleMethodsReporter;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Listener bean used to process annotated methods in appropriate dropwizard lifecycle phases.
+ * <p>
+ * Execution time of each method is registered as timer metric ({@code bean.class.method.Annotation}). The slowest
+ * methods are reported after server startup and after shutdown.
+ * <p>
+ * {@link AsyncPostStartup} methods are executed after server startup in background thread (not completed methods
+ * are interrupted on shutdown). Async methods of lazy (JIT) beans, created after startup, are also executed in
+ * background thread. {@link AsyncStartupHealthCheck} is registered on startup (before {@link PostConstruct}
+ * methods execution) only when async methods exist (or later, when the first lazy bean async method appears).
  *
  * @author Vyacheslav Rusakov
  * @since 26.11.2018
  */
 public class DropwizardLifecycleListener implements ServerLifecycleListener, Managed {
+    private final Logger logger = LoggerFactory.getLogger(DropwizardLifecycleListener.class);
 
     private final MethodsCollector collector;
+    private final MetricRegistry metrics;
+    private final HealthCheckRegistry healthChecks;
+    private final LifecycleMethodsReporter reporter;
+    private Thread asyncStartup;
+    private ExecutorService lateAsyncStartup;
 
-    public DropwizardLifecycleListener(final MethodsCollector collector) {
+    /**
+     * @param collector    collector instance
+     * @param metrics      metrics registry (may be null to avoid metrics registration)
+     * @param healthChecks health checks registry (may be null to avoid async health check registration)
+     * @param report       true to print the slowest methods report
+     */
+    public DropwizardLifecycleListener(final MethodsCollector collector,
+                                       final MetricRegistry metrics,
+                                       final HealthCheckRegistry healthChecks,
+                                       final boolean report) {
         this.collector = collector;
+        this.metrics = metrics;
+        this.healthChecks = healthChecks;
+        this.reporter = report ? new LifecycleMethodsReporter(collector) : null;
+        collector.setLateRegistrationHandler(AsyncPostStartup.class, this::startLateAsync);
     }
 
     @Override
     public void start() throws Exception {
+        if (!collector.getMethods(AsyncPostStartup.class).isEmpty()) {
+            // application must not be reported as ready before async methods execution
+            registerHealthCheck();
+        }
         collector.call(PostConstruct.class);
+        recordMetrics(PostConstruct.class);
     }
 
     @Override
     public void serverStarted(final Server server) {
         collector.call(PostStartup.class);
+        recordMetrics(PostStartup.class);
+        if (reporter != null) {
+            reporter.report("startup", PostConstruct.class, PostStartup.class);
+        }
+        startAsync();
     }
 
     @Override
     public void stop() throws Exception {
+        if (asyncStartup != null && asyncStartup.isAlive()) {
+            logger.warn("Interrupting not completed @{} methods", AsyncPostStartup.class.getSimpleName());
+            asyncStartup.interrupt();
+        }
+        synchronized (this) {
+            if (lateAsyncStartup != null) {
+                lateAsyncStartup.shutdownNow();
+            }
+        }
         collector.safeCall(PreDestroy.class);
+        recordMetrics(PreDestroy.class);
+        if (reporter != null) {
+            reporter.report("shutdown", PreDestroy.class);
+        }
+    }
+
+    private void startAsync() {
+        asyncStartup = new Thread(() -> {
+            try {
+                // failures are logged (and indicated by health check)
+                collector.safeCall(AsyncPostStartup.class);
+            } catch (Exception ex) {
+                logger.error("@" + AsyncPostStartup.class.getSimpleName() + " methods execution interrupted", ex);
+            }
+            recordMetrics(AsyncPostStartup.class);
+            if (reporter != null) {
+                reporter.report("async startup", AsyncPostStartup.class);
+            }
+        }, "lifecycle-async-startup");
+        asyncStartup.setDaemon(true);
+        asyncStartup.start();
+    }
+
+    private synchronized void startLateAsync(final MethodInstance method) {
+        // health check must track method state even if there were no async methods on startup
+        registerHealthCheck();
+        if (lateAsyncStartup == null) {
+            lateAsyncStartup = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "lifecycle-async-startup");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        lateAsyncStartup.execute(() -> {
+            try {
+                method.call();
+            } catch (Exception ex) {
+                // failure indicated by health check
+                logger.error("Failed to process @" + AsyncPostStartup.class.getSimpleName()
+                        + " annotated method", ex);
+            }
+            recordMetric(AsyncPostStartup.class, method);
+        });
+    }
+
+    private synchronized void registerHealthCheck() {
+        if (healthChecks != null && !healthChecks.getNames().contains(AsyncStartupHealthCheck.NAME)) {
+            healthChecks.register(AsyncStartupHealthCheck.NAME, new AsyncStartupHealthCheck(collector));
+        }
+    }
+
+    private void recordMetrics(final Class<? extends Annotation> annotation) {
+        for (MethodInstance method : collector.getMethods(annotation)) {
+            recordMetric(annotation, method);
+        }
+    }
+
+    private void recordMetric(final Class<? extends Annotation> annotation, final MethodInstance method) {
+        if (metrics != null && method.isExecuted()) {
+            metrics.timer(MetricRegistry.name(method.getName(), annotation.getSimpleName()))
+                    .update(method.getDuration(), TimeUnit.NANOSECONDS);
+        }
     }
 }
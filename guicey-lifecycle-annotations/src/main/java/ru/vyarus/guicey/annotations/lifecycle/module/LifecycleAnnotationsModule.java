@@ -3,18 +3,19 @@ package ru.vyarus.guicey.annotations.lifecycle.module;
 import com.google.inject.AbstractModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matcher;
-import ru.vyarus.guice.ext.core.method.AnnotatedMethodTypeListener;
+import ru.vyarus.guicey.annotations.lifecycle.AsyncPostStartup;
 import ru.vyarus.guicey.annotations.lifecycle.PostStartup;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.LifecycleMethodsListener;
 import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
-import ru.vyarus.guicey.annotations.lifecycle.module.collector.SimpleAnnotationProcessor;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.lang.annotation.Annotation;
 
 /**
  * Guice module detects all methods annotated with lifecycle annotations. Annotations triggering done by
  * {@link DropwizardLifecycleListener}.
+ * <p>
+ * Single type listener is used for all annotations (each bean class is introspected only once).
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.guicey.annotations.lifecycle.LifecycleAnnotationsBundle
@@ -40,23 +41,11 @@ public class LifecycleAnnotationsModule extends AbstractModule {
 
     @Override
     protected void configure() {
-        register(collector,
+        bindListener(typeMatcher, new LifecycleMethodsListener(collector,
                 PostConstruct.class,
                 PostStartup.class,
+                AsyncPostStartup.class,
                 PreDestroy.class
-        );
-    }
-
-    /**
-     * @param collector   collector instance
-     * @param annotations annotation types to search in beans
-     */
-    @SafeVarargs
-    private final void register(final MethodsCollector collector,
-                                final Class<? extends Annotation>... annotations) {
-        for (Class<? extends Annotation> ann : annotations) {
-            bindListener(typeMatcher, new AnnotatedMethodTypeListener<>(
-                    ann, new SimpleAnnotationProcessor<>(collector)));
-        }
+        ));
     }
 }
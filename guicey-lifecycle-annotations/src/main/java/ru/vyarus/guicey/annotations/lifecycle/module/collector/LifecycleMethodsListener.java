@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.annotations.lifecycle.module.collector;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.InjectionListener;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
+import ru.vyarus.guice.ext.core.util.Utils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects lifecycle annotated methods in guice beans and registers them in collector after bean instantiation.
+ * <p>
+ * All annotations are searched in one pass: each class (including superclasses) is scanned only once and
+ * the result is cached, so beans of the same type (or sharing the same base class) are not introspected again.
+ * Classes without annotated methods are remembered too (empty result). Method handles are also created once
+ * for each found method (and only bound to each bean instance).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class LifecycleMethodsListener implements TypeListener {
+
+    private final MethodsCollector collector;
+    private final List<Class<? extends Annotation>> annotations;
+    // declared class methods only (hierarchy is composed from per-class results)
+    private final Map<Class<?>, ListMultimap<Class<? extends Annotation>, Method>> cache = new ConcurrentHashMap<>();
+    // unbound method handles for found methods
+    private final Map<Method, MethodHandle> handles = new ConcurrentHashMap<>();
+
+    @SafeVarargs
+    public LifecycleMethodsListener(final MethodsCollector collector,
+                                    final Class<? extends Annotation>... annotations) {
+        this.collector = collector;
+        this.annotations = Arrays.asList(annotations);
+    }
+
+    @Override
+    public <I> void hear(final TypeLiteral<I> type, final TypeEncounter<I> encounter) {
+        final Class<? super I> actualType = type.getRawType();
+        if (!Utils.isPackageValid(actualType)) {
+            return;
+        }
+        final ImmutableListMultimap.Builder<Class<? extends Annotation>, Method> builder =
+                ImmutableListMultimap.builder();
+        Class<?> investigatingType = actualType;
+        while (investigatingType != null && !investigatingType.equals(Object.class)) {
+            builder.putAll(cache.computeIfAbsent(investigatingType, this::scan));
+            investigatingType = investigatingType.getSuperclass();
+        }
+        final ListMultimap<Class<? extends Annotation>, Method> methods = builder.build();
+        if (!methods.isEmpty()) {
+            encounter.register((InjectionListener<I>) injectee ->
+                    methods.forEach((annotation, method) -> {
+                        Utils.checkNoParams(method);
+                        collector.register(annotation, injectee, method, handles.get(method));
+                    }));
+        }
+    }
+
+    private ListMultimap<Class<? extends Annotation>, Method> scan(final Class<?> type) {
+        final ImmutableListMultimap.Builder<Class<? extends Annotation>, Method> res =
+                ImmutableListMultimap.builder();
+        for (Method method : type.getDeclaredMethods()) {
+            // synthetic and bridge methods could duplicate annotations of real method
+            if (method.isSynthetic() || method.isBridge()) {
+                continue;
+            }
+            boolean found = false;
+            for (Class<? extends Annotation> annotation : annotations) {
+                if (method.isAnnotationPresent(annotation)) {
+                    res.put(annotation, method);
+                    found = true;
+                }
+            }
+            if (found) {
+                method.setAccessible(true);
+                // methods with parameters are rejected on registration (Utils.checkNoParams)
+                if (method.getParameterCount() == 0) {
+                    handles.put(method, MethodInstance.createHandle(method));
+                }
+            }
+        }
+        return res.build();
+    }
+}
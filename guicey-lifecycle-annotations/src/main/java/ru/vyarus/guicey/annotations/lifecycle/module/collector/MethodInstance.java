@@ -2,11 +2,19 @@ package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.LifecycleOrder;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Instance method abstraction. Holds both method and target instance object to easily perform call.
+ * Method is invoked with method handle, bound to instance (avoids reflective call overhead). Unbound handle is
+ * created once for method (see {@link #createHandle(Method)}) and only bound to each instance.
  *
  * @author Vyacheslav Rusakov
  * @since 27.11.2018
@@ -16,26 +24,130 @@ public class MethodInstance {
 
     private final Object instance;
     private final Method method;
+    private final MethodHandle handle;
+    private final int order;
+    // -1 means not executed yet
+    private volatile long duration = -1;
+    private volatile boolean failed;
+    private volatile boolean timedOut;
 
+    /**
+     * Creates method handle for method (prefer {@link #MethodInstance(Object, Method, MethodHandle)} with cached
+     * handle to avoid handle creation for each instance).
+     *
+     * @param instance target instance
+     * @param method   lifecycle method
+     */
     public MethodInstance(final Object instance, final Method method) {
+        this(instance, method, createHandle(makeAccessible(method)));
+    }
+
+    /**
+     * @param instance target instance
+     * @param method   lifecycle method
+     * @param handle   method handle, created with {@link #createHandle(Method)}
+     */
+    public MethodInstance(final Object instance, final Method method, final MethodHandle handle) {
         this.instance = instance;
         this.method = method;
+        this.handle = Modifier.isStatic(method.getModifiers()) ? handle : handle.bindTo(instance);
+        final LifecycleOrder ann = method.getAnnotation(LifecycleOrder.class);
+        this.order = ann == null ? 0 : ann.value();
+    }
+
+    /**
+     * @return method execution order (declared with {@link LifecycleOrder}), 0 by default
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * @return method identity (declaring class and method name)
+     */
+    public String getName() {
+        return method.getDeclaringClass().getName() + "." + method.getName();
+    }
+
+    /**
+     * @return true if method was executed (successfully or not)
+     */
+    public boolean isExecuted() {
+        return duration >= 0;
+    }
+
+    /**
+     * @return last execution duration in nanoseconds or -1 if method was not executed
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return true if method execution failed
+     */
+    public boolean isFailed() {
+        return failed;
     }
 
     /**
-     * Calls method on instance.
+     * @return true if method execution was interrupted due to timeout
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Marks method as interrupted due to timeout.
+     */
+    public void markTimedOut() {
+        this.timedOut = true;
+    }
+
+    /**
+     * Calls method on instance. Execution time is recorded (even if method fails).
      * <p>
      * If method execution fails, exception is propagated.
      */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public void call() {
+        final long start = System.nanoTime();
         try {
             logger.debug("Executing method {}", this);
-            method.invoke(instance);
-        } catch (Exception ex) {
+            handle.invokeExact();
+        } catch (Throwable ex) {
+            failed = true;
             throw new IllegalStateException("Failed to execute method " + this, ex);
+        } finally {
+            duration = System.nanoTime() - start;
+            logger.debug("Method {} executed in {} ms", this, TimeUnit.NANOSECONDS.toMillis(duration));
+        }
+    }
+
+    /**
+     * Creates method handle, not bound to instance (could be cached and used for all instances).
+     * Method must be accessible.
+     *
+     * @param method lifecycle method
+     * @return method handle ignoring method result (with generic instance parameter for instance method)
+     */
+    public static MethodHandle createHandle(final Method method) {
+        try {
+            final MethodHandle res = MethodHandles.lookup().unreflect(method);
+            // ignore method result
+            return Modifier.isStatic(method.getModifiers())
+                    ? res.asType(MethodType.methodType(void.class))
+                    : res.asType(MethodType.methodType(void.class, Object.class));
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException("Failed to access method " + method, ex);
         }
     }
 
+    private static Method makeAccessible(final Method method) {
+        method.setAccessible(true);
+        return method;
+    }
+
     @Override
     public String toString() {
         return instance.getClass().getSimpleName() + "." + method.getName()
@@ -3,17 +3,32 @@ package ru.vyarus.guicey.annotations.lifecycle.module.collector;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Registry for detected annotated methods. Used to collect and then process all found methods by annotation.
+ * <p>
+ * Methods are executed according to declared order ({@link ru.vyarus.guicey.annotations.lifecycle.LifecycleOrder}).
+ * When parallel execution enabled for annotation, methods with the same order are executed concurrently.
+ * Methods execution time could be limited with timeouts.
+ * <p>
+ * Methods registered after annotation processing (JIT beans) are called immediately, unless custom late
+ * registration handler configured for annotation.
  *
  * @author Vyacheslav Rusakov
  * @since 27.11.2018
@@ -21,32 +36,124 @@ import java.util.List;
 public class MethodsCollector {
     private final Logger logger = LoggerFactory.getLogger(MethodsCollector.class);
 
-    private final Multimap<Class<? extends Annotation>, MethodInstance> listeners = LinkedListMultimap.create();
+    // synchronized because async methods execution could overlap with late (JIT) registrations
+    private final Multimap<Class<? extends Annotation>, MethodInstance> listeners =
+            Multimaps.synchronizedMultimap(LinkedListMultimap.create());
 
     // first it prevents duplicate lifecycle call
     // second it used to detect late registrations for immediate execution
-    private final List<Class<? extends Annotation>> processed = new ArrayList<>();
+    private final List<Class<? extends Annotation>> processed = new CopyOnWriteArrayList<>();
+
+    private final Map<Class<? extends Annotation>, Integer> parallel = new HashMap<>();
+    private final Map<Class<? extends Annotation>, Duration> methodTimeouts = new HashMap<>();
+    private final Map<Class<? extends Annotation>, Duration> totalTimeouts = new HashMap<>();
+    private final Map<Class<? extends Annotation>, Consumer<MethodInstance>> lateHandlers = new HashMap<>();
 
     public void register(final Class<? extends Annotation> annotation,
                          final Object instance,
                          final Method method) {
-        final MethodInstance methodInstance = new MethodInstance(instance, method);
-        listeners.put(annotation, methodInstance);
+        register(annotation, new MethodInstance(instance, method));
+    }
+
+    /**
+     * Register method with pre-created (cached) method handle.
+     *
+     * @param annotation lifecycle annotation
+     * @param instance   bean instance
+     * @param method     lifecycle method
+     * @param handle     method handle (see {@link MethodInstance#createHandle(Method)})
+     */
+    public void register(final Class<? extends Annotation> annotation,
+                         final Object instance,
+                         final Method method,
+                         final MethodHandle handle) {
+        register(annotation, new MethodInstance(instance, method, handle));
+    }
+
+    private void register(final Class<? extends Annotation> annotation, final MethodInstance methodInstance) {
+        final boolean late;
+        synchronized (listeners) {
+            listeners.put(annotation, methodInstance);
+            late = processed.contains(annotation);
+        }
         // could appear due to JIT (when bean not registered and being instantiated after injector creation (on demand))
-        if (processed.contains(annotation)) {
+        if (late) {
             logger.warn("@{} listener registered after event processing: {}. "
                     + "This could happen when bean is not registered and instantiated on demand "
                     + "(by guice JIT). "
                     + "To avoid this warning register bean directly in guice module. "
                     + "Immediate initialization will be performed.", annotation.getSimpleName(), methodInstance);
 
-            callInstance(annotation, methodInstance, true);
+            final Consumer<MethodInstance> handler = lateHandlers.get(annotation);
+            if (handler != null) {
+                handler.accept(methodInstance);
+            } else {
+                callInstance(annotation, methodInstance, true);
+            }
+        }
+    }
+
+    /**
+     * By default, methods registered after annotation processing (JIT beans) are called immediately (in the
+     * current thread). Custom handler could be used to process such methods differently (e.g. asynchronously).
+     * Method instance is already registered (available in {@link #getMethods(Class)}) when handler called.
+     *
+     * @param annotation lifecycle annotation
+     * @param handler    late registered methods handler
+     */
+    public void setLateRegistrationHandler(final Class<? extends Annotation> annotation,
+                                           final Consumer<MethodInstance> handler) {
+        lateHandlers.put(annotation, handler);
+    }
+
+    /**
+     * Enables parallel execution of lifecycle methods for provided annotations. Methods with the same order are
+     * executed concurrently on bounded pool (created for each lifecycle phase).
+     *
+     * @param threads     max threads to use
+     * @param annotations annotations to execute in parallel
+     */
+    @SafeVarargs
+    public final void enableParallelExecution(final int threads,
+                                              final Class<? extends Annotation>... annotations) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        for (Class<? extends Annotation> ann : annotations) {
+            parallel.put(ann, threads);
+        }
+    }
+
+    /**
+     * Limits lifecycle methods execution time. Method, exceeding timeout, is interrupted (and reported).
+     * After overall timeout, all running methods are interrupted and not started methods are skipped.
+     *
+     * @param annotation    lifecycle annotation
+     * @param methodTimeout single method execution timeout (null for no limit)
+     * @param totalTimeout  all methods execution timeout (null for no limit)
+     */
+    public void setTimeouts(final Class<? extends Annotation> annotation,
+                            final Duration methodTimeout,
+                            final Duration totalTimeout) {
+        if (methodTimeout != null) {
+            methodTimeouts.put(annotation, methodTimeout);
+        }
+        if (totalTimeout != null) {
+            totalTimeouts.put(annotation, totalTimeout);
+        }
+    }
+
+    /**
+     * @param annotation lifecycle annotation
+     * @return all registered methods for annotation (in registration order)
+     */
+    public List<MethodInstance> getMethods(final Class<? extends Annotation> annotation) {
+        synchronized (listeners) {
+            return new ArrayList<>(listeners.get(annotation));
         }
     }
 
     /**
      * Called to process all methods annotated with provided annotation.
-     * In case of exception, it would be propagated.
+     * In case of exception, it would be propagated (in parallel mode, other running methods are interrupted).
      *
      * @param annotation target method annotation
      */
@@ -66,19 +173,41 @@ public class MethodsCollector {
     }
 
     private void doCall(final Class<? extends Annotation> annotation, final boolean safe) {
-        Preconditions.checkState(!processed.contains(annotation),
-                "Lifecycle @%s methods were already processed", annotation.getSimpleName());
-        processed.add(annotation);
-
-        final Collection<MethodInstance> methods = listeners.get(annotation);
+        final Collection<MethodInstance> methods;
+        synchronized (listeners) {
+            Preconditions.checkState(!processed.contains(annotation),
+                    "Lifecycle @%s methods were already processed", annotation.getSimpleName());
+            processed.add(annotation);
+            methods = new ArrayList<>(listeners.get(annotation));
+        }
         if (!methods.isEmpty()) {
             logger.debug("Executing @{} lifecycle methods", annotation.getSimpleName());
-            for (MethodInstance method : methods) {
-                callInstance(annotation, method, safe);
+            final Collection<List<MethodInstance>> groups = groupByOrder(methods);
+            final int threads = parallel.getOrDefault(annotation, 1);
+            final boolean concurrent = threads > 1 && groups.size() < methods.size();
+            final Duration methodTimeout = methodTimeouts.get(annotation);
+            final Duration totalTimeout = totalTimeouts.get(annotation);
+            if (concurrent || methodTimeout != null || totalTimeout != null) {
+                new MethodsExecutor(annotation, method -> callInstance(annotation, method, safe),
+                        concurrent ? threads : 1, methodTimeout, totalTimeout).execute(groups);
+            } else {
+                for (List<MethodInstance> group : groups) {
+                    for (MethodInstance method : group) {
+                        callInstance(annotation, method, safe);
+                    }
+                }
             }
         }
     }
 
+    private Collection<List<MethodInstance>> groupByOrder(final Collection<MethodInstance> methods) {
+        final Map<Integer, List<MethodInstance>> res = new TreeMap<>();
+        for (MethodInstance method : methods) {
+            res.computeIfAbsent(method.getOrder(), key -> new ArrayList<>()).add(method);
+        }
+        return res.values();
+    }
+
     private void callInstance(final Class<? extends Annotation> annotation,
                               final MethodInstance method,
                               final boolean safe) {
@@ -0,0 +1,210 @@
+package ru.vyarus.guicey.annotations.lifecycle.module.collector;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Executes lifecycle methods on separate threads: concurrently (methods with the same order) and/or with time
+ * limits. Methods groups (by order) are always executed sequentially.
+ * <p>
+ * Method, exceeding per-method timeout, is interrupted and reported. When overall timeout is reached, all running
+ * methods are interrupted and all not started methods are skipped (and reported). Note that method, ignoring
+ * interruption, would continue execution in background (daemon) thread.
+ * <p>
+ * In not safe mode, the first method failure interrupts all running methods and propagates.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class MethodsExecutor {
+    private final Logger logger = LoggerFactory.getLogger(MethodsExecutor.class);
+
+    private final Class<? extends Annotation> annotation;
+    private final Consumer<MethodInstance> action;
+    private final int threads;
+    private final long methodTimeout;
+    private final long totalTimeout;
+
+    private long deadline;
+    private boolean deadlineReached;
+
+    /**
+     * @param annotation    lifecycle annotation
+     * @param action        method call action (must not throw exceptions in safe mode)
+     * @param threads       threads count (1 for sequential execution)
+     * @param methodTimeout single method timeout (null for no limit)
+     * @param totalTimeout  all methods execution timeout (null for no limit)
+     */
+    MethodsExecutor(final Class<? extends Annotation> annotation,
+                    final Consumer<MethodInstance> action,
+                    final int threads,
+                    final Duration methodTimeout,
+                    final Duration totalTimeout) {
+        this.annotation = annotation;
+        this.action = action;
+        this.threads = threads;
+        this.methodTimeout = methodTimeout == null ? 0 : methodTimeout.toNanos();
+        this.totalTimeout = totalTimeout == null ? 0 : totalTimeout.toNanos();
+    }
+
+    /**
+     * Execute methods groups in order.
+     *
+     * @param groups methods grouped by order
+     */
+    public void execute(final Collection<List<MethodInstance>> groups) {
+        final ThreadFactory factory = new ThreadFactoryBuilder()
+                .setNameFormat("lifecycle-" + annotation.getSimpleName() + "-%d")
+                .setDaemon(true)
+                .build();
+        // for sequential execution new thread would be created only if previous method stuck
+        final ExecutorService executor = threads > 1
+                ? Executors.newFixedThreadPool(threads, factory) : Executors.newCachedThreadPool(factory);
+        deadline = totalTimeout > 0 ? System.nanoTime() + totalTimeout : 0;
+        final List<MethodInstance> skipped = new ArrayList<>();
+        try {
+            for (List<MethodInstance> group : groups) {
+                if (deadlineReached) {
+                    skipped.addAll(group);
+                } else if (threads > 1) {
+                    executeGroup(group, executor);
+                } else {
+                    for (MethodInstance method : group) {
+                        if (deadlineReached) {
+                            skipped.add(method);
+                        } else {
+                            executeGroup(Collections.singletonList(method), executor);
+                        }
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (!skipped.isEmpty()) {
+            logger.warn("{} @{} methods were not executed due to {} ms timeout: {}", skipped.size(),
+                    annotation.getSimpleName(), TimeUnit.NANOSECONDS.toMillis(totalTimeout),
+                    skipped.stream().map(MethodInstance::getName).collect(Collectors.toList()));
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    private void executeGroup(final List<MethodInstance> group, final ExecutorService executor) {
+        final CompletionService<MethodInstance> completion = new ExecutorCompletionService<>(executor);
+        final Map<Future<MethodInstance>, Task> pending = new LinkedHashMap<>();
+        for (MethodInstance method : group) {
+            final Task task = new Task(method);
+            pending.put(completion.submit(task), task);
+        }
+        try {
+            while (!pending.isEmpty()) {
+                final Future<MethodInstance> done = completion.poll(waitTime(pending.values()), TimeUnit.NANOSECONDS);
+                // cancelled futures would also appear here, but they are already removed from pending
+                if (done != null && pending.remove(done) != null) {
+                    // fail on first error (only possible in not safe mode)
+                    done.get();
+                }
+                checkTimeouts(pending);
+            }
+        } catch (ExecutionException ex) {
+            pending.keySet().forEach(future -> future.cancel(true));
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new RuntimeException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pending.keySet().forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while waiting for @"
+                    + annotation.getSimpleName() + " methods execution", ex);
+        }
+    }
+
+    private long waitTime(final Collection<Task> tasks) {
+        final long now = System.nanoTime();
+        long res = deadline == 0 ? Long.MAX_VALUE : deadline - now;
+        if (methodTimeout > 0) {
+            for (Task task : tasks) {
+                // not started task would be checked again after timeout
+                res = Math.min(res, task.running ? task.start + methodTimeout - now : methodTimeout);
+            }
+        }
+        return Math.max(0, res);
+    }
+
+    private void checkTimeouts(final Map<Future<MethodInstance>, Task> pending) {
+        final long now = System.nanoTime();
+        if (deadline != 0 && now - deadline >= 0) {
+            deadlineReached = true;
+            for (Map.Entry<Future<MethodInstance>, Task> entry : pending.entrySet()) {
+                entry.getKey().cancel(true);
+                overrun(entry.getValue(), "overall " + TimeUnit.NANOSECONDS.toMillis(totalTimeout) + " ms");
+            }
+            pending.clear();
+        } else if (methodTimeout > 0) {
+            final Iterator<Map.Entry<Future<MethodInstance>, Task>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                final Map.Entry<Future<MethodInstance>, Task> entry = it.next();
+                final Task task = entry.getValue();
+                if (task.running && now - task.start >= methodTimeout) {
+                    entry.getKey().cancel(true);
+                    overrun(task, TimeUnit.NANOSECONDS.toMillis(methodTimeout) + " ms");
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private void overrun(final Task task, final String timeout) {
+        task.method.markTimedOut();
+        if (task.running) {
+            logger.warn("@{} method {} exceeded {} timeout and was interrupted",
+                    annotation.getSimpleName(), task.method, timeout);
+        } else {
+            logger.warn("@{} method {} was not started due to {} timeout",
+                    annotation.getSimpleName(), task.method, timeout);
+        }
+    }
+
+    /**
+     * Method execution task (tracks execution start).
+     */
+    private final class Task implements Callable<MethodInstance> {
+        private final MethodInstance method;
+        private volatile boolean running;
+        private volatile long start;
+
+        Task(final MethodInstance method) {
+            this.method = method;
+        }
+
+        @Override
+        public MethodInstance call() {
+            start = System.nanoTime();
+            running = true;
+            action.accept(method);
+            return method;
+        }
+    }
+}
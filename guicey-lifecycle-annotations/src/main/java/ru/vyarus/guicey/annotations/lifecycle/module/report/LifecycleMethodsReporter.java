@@ -0,0 +1,109 @@
+package ru.vyarus.guicey.annotations.lifecycle.module.report;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodInstance;
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
+import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.TAB;
+
+/**
+ * Reports the slowest executed lifecycle methods (to see what dominates startup or shutdown time).
+ * Methods interrupted by timeout are marked.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class LifecycleMethodsReporter {
+    private static final int MAX_METHODS = 10;
+    private static final double NANOS_IN_MS = 1_000_000d;
+
+    private final Logger logger = LoggerFactory.getLogger(LifecycleMethodsReporter.class);
+
+    private final MethodsCollector collector;
+
+    public LifecycleMethodsReporter(final MethodsCollector collector) {
+        this.collector = collector;
+    }
+
+    /**
+     * @param phase       lifecycle phase name
+     * @param annotations annotations to report methods for
+     * @return rendered report or null if no methods were executed
+     */
+    @SafeVarargs
+    public final String renderReport(final String phase, final Class<? extends Annotation>... annotations) {
+        final List<Timing> timings = new ArrayList<>();
+        final StringBuilder totals = new StringBuilder();
+        for (Class<? extends Annotation> ann : annotations) {
+            int count = 0;
+            long total = 0;
+            for (MethodInstance method : collector.getMethods(ann)) {
+                if (method.isExecuted()) {
+                    timings.add(new Timing(ann, method));
+                    count++;
+                    total += method.getDuration();
+                }
+            }
+            if (count > 0) {
+                totals.append(TAB).append(String.format("%-20s %4d methods %10.2f ms",
+                        "@" + ann.getSimpleName(), count, total / NANOS_IN_MS)).append(NEWLINE);
+            }
+        }
+        if (timings.isEmpty()) {
+            return null;
+        }
+        timings.sort(Comparator.comparingLong((Timing timing) -> timing.method.getDuration()).reversed());
+
+        final StringBuilder res = new StringBuilder("Slowest lifecycle methods (")
+                .append(phase).append(") = ").append(NEWLINE).append(NEWLINE)
+                .append(totals).append(NEWLINE);
+        for (Timing timing : timings.subList(0, Math.min(MAX_METHODS, timings.size()))) {
+            res.append(TAB).append(String.format("%10.2f ms    %-20s %s",
+                    timing.method.getDuration() / NANOS_IN_MS,
+                    "@" + timing.annotation.getSimpleName(),
+                    timing.method.getName()));
+            if (timing.method.isTimedOut()) {
+                res.append("    (interrupted by timeout)");
+            }
+            res.append(NEWLINE);
+        }
+        if (timings.size() > MAX_METHODS) {
+            res.append(TAB).append("... ").append(timings.size() - MAX_METHODS).append(" more").append(NEWLINE);
+        }
+        return res.toString();
+    }
+
+    /**
+     * Print the slowest lifecycle methods to console. Do nothing if no methods were executed.
+     *
+     * @param phase       lifecycle phase name
+     * @param annotations annotations to report methods for
+     */
+    @SafeVarargs
+    public final void report(final String phase, final Class<? extends Annotation>... annotations) {
+        final String report = renderReport(phase, annotations);
+        if (report != null) {
+            logger.info(report);
+        }
+    }
+
+    /**
+     * Executed method with annotation.
+     */
+    private static class Timing {
+        private final Class<? extends Annotation> annotation;
+        private final MethodInstance method;
+
+        Timing(final Class<? extends Annotation> annotation, final MethodInstance method) {
+            this.annotation = annotation;
+            this.method = method;
+        }
+    }
+}
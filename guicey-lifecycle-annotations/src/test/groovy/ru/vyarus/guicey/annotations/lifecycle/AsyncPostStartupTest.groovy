@@ -0,0 +1,221 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import com.codahale.metrics.health.HealthCheck
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import ru.vyarus.guicey.annotations.lifecycle.module.AsyncStartupHealthCheck
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.util.concurrent.CountDownLatch
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AsyncPostStartupTest extends Specification {
+
+    def "Check async startup readiness"() {
+
+        when:
+        HealthCheck.Result before
+        HealthCheck.Result after
+        String thread
+        TestSupport.runWebApp(App, null) {
+            Environment env = it.getInstance(Environment)
+            before = env.healthChecks().runHealthCheck(AsyncStartupHealthCheck.NAME)
+            SampleBean bean = it.getInstance(SampleBean)
+            bean.latch.countDown()
+            int i = 0
+            while (i++ < 50 && !bean.done) {
+                sleep(100)
+            }
+            sleep(100)
+            after = env.healthChecks().runHealthCheck(AsyncStartupHealthCheck.NAME)
+            thread = bean.thread
+        }
+
+        then: "not ready until async method complete"
+        !before.healthy
+        before.message == 'Not ready: 1 of 1 @AsyncPostStartup methods not completed'
+        after.healthy
+        thread == 'lifecycle-async-startup'
+    }
+
+    def "Check async startup failure"() {
+
+        when:
+        HealthCheck.Result res
+        TestSupport.runWebApp(FailedApp, null) {
+            sleep(500)
+            res = it.getInstance(Environment).healthChecks().runHealthCheck(AsyncStartupHealthCheck.NAME)
+        }
+
+        then: "health check indicate failure"
+        !res.healthy
+        res.message.startsWith('Failed @AsyncPostStartup methods: ')
+    }
+
+    def "Check lazy bean async method executed in background"() {
+
+        when: "JIT bean created after startup"
+        HealthCheck.Result before
+        HealthCheck.Result after
+        LazyBean bean
+        String callerThread = Thread.currentThread().name
+        boolean registeredOnStartup
+        TestSupport.runWebApp(NoAsyncApp, null) {
+            Environment env = it.getInstance(Environment)
+            registeredOnStartup = env.healthChecks().names.contains(AsyncStartupHealthCheck.NAME)
+            bean = it.getInstance(LazyBean)
+            before = env.healthChecks().runHealthCheck(AsyncStartupHealthCheck.NAME)
+            bean.latch.countDown()
+            int i = 0
+            while (i++ < 50 && !bean.done) {
+                sleep(100)
+            }
+            sleep(100)
+            after = env.healthChecks().runHealthCheck(AsyncStartupHealthCheck.NAME)
+        }
+
+        then: "health check registered only for late async method"
+        !registeredOnStartup
+
+        and: "method executed in background and tracked by health check"
+        !before.healthy
+        before.message == 'Not ready: 1 of 1 @AsyncPostStartup methods not completed'
+        after.healthy
+        bean.thread == 'lifecycle-async-startup'
+        bean.thread != callerThread
+    }
+
+    def "Check not ready before sync startup methods"() {
+
+        when:
+        OrderBean bean
+        boolean threadsOnlyRegistered
+        TestSupport.runWebApp(OrderApp, null) {
+            bean = it.getInstance(OrderBean)
+        }
+        TestSupport.runWebApp(ThreadsApp, null) {
+            threadsOnlyRegistered = it.getInstance(Environment).healthChecks().names
+                    .contains(AsyncStartupHealthCheck.NAME)
+        }
+
+        then: "health check registered before @PostStartup methods"
+        !bean.result.healthy
+        bean.result.message == 'Not ready: 1 of 1 @AsyncPostStartup methods not completed'
+
+        and: "not registered without async methods"
+        !threadsOnlyRegistered
+    }
+
+    static class App extends Application<Configuration> {
+
+        Class[] exts = [SampleBean]
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap
+                    .addBundle(GuiceBundle.builder()
+                            .extensions(exts)
+                            .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class FailedApp extends App {
+        FailedApp() {
+            exts = [FailedBean]
+        }
+    }
+
+    static class NoAsyncApp extends App {
+        NoAsyncApp() {
+            exts = []
+        }
+    }
+
+    static class OrderApp extends App {
+        OrderApp() {
+            exts = [OrderBean]
+        }
+    }
+
+    static class ThreadsApp extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap
+                    .addBundle(GuiceBundle.builder()
+                            .bundles(new LifecycleAnnotationsBundle().withAsyncStartupThreads(2))
+                            .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Singleton
+    static class LazyBean {
+        CountDownLatch latch = new CountDownLatch(1)
+        volatile boolean done
+        volatile String thread
+
+        @AsyncPostStartup
+        void warmUp() {
+            latch.await()
+            thread = Thread.currentThread().name
+            done = true
+        }
+    }
+
+    @EagerSingleton
+    static class SampleBean {
+        CountDownLatch latch = new CountDownLatch(1)
+        volatile boolean done
+        String thread
+
+        @AsyncPostStartup
+        void warmUp() {
+            latch.await()
+            thread = Thread.currentThread().name
+            done = true
+        }
+    }
+
+    @EagerSingleton
+    static class OrderBean {
+        @Inject
+        Environment environment
+        HealthCheck.Result result
+
+        @PostStartup
+        void check() {
+            result = environment.healthChecks().runHealthCheck(AsyncStartupHealthCheck.NAME)
+        }
+
+        @AsyncPostStartup
+        void warmUp() {
+        }
+    }
+
+    @EagerSingleton
+    static class FailedBean {
+
+        @AsyncPostStartup
+        void warmUp() {
+            throw new IllegalStateException('cache failure')
+        }
+    }
+}
@@ -21,4 +21,35 @@ class CollectorTest extends Specification {
         def ex = thrown(IllegalStateException)
         ex.message == "Lifecycle @PostConstruct methods were already processed"
     }
+
+    def "Check methods order"() {
+
+        when:
+        MethodsCollector collector = new MethodsCollector()
+        OrderedBean bean = new OrderedBean()
+        ['third', 'first', 'second'].each {
+            collector.register(PostConstruct, bean, OrderedBean.getDeclaredMethod(it))
+        }
+        collector.call(PostConstruct)
+        then:
+        bean.calls == ['first', 'second', 'third']
+    }
+
+    static class OrderedBean {
+        List<String> calls = []
+
+        @LifecycleOrder(2)
+        void third() {
+            calls << 'third'
+        }
+
+        @LifecycleOrder(-1)
+        void first() {
+            calls << 'first'
+        }
+
+        void second() {
+            calls << 'second'
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import com.google.inject.Guice
+import com.google.inject.matcher.Matchers
+import ru.vyarus.guicey.annotations.lifecycle.module.LifecycleAnnotationsModule
+import spock.lang.Specification
+
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class MethodsListenerTest extends Specification {
+
+    def "Check all annotations detected in one pass"() {
+
+        when:
+        LifecycleAnnotationsModule module = new LifecycleAnnotationsModule(Matchers.any())
+        def injector = Guice.createInjector(module)
+        Bean bean = injector.getInstance(Bean)
+        Bean bean2 = injector.getInstance(Bean)
+        module.collector.call(PostConstruct)
+        module.collector.call(PreDestroy)
+
+        then: "methods of both instances registered"
+        module.collector.getMethods(PostConstruct).size() == 4
+        module.collector.getMethods(PreDestroy).size() == 2
+
+        and: "all methods called"
+        bean.calls == ['base', 'init', 'destroy']
+        bean2.calls == ['base', 'init', 'destroy']
+    }
+
+    static class Base {
+        List<String> calls = []
+
+        @PostConstruct
+        @LifecycleOrder(-1)
+        private void base() {
+            calls << 'base'
+        }
+    }
+
+    static class Bean extends Base {
+
+        @PostConstruct
+        void init() {
+            calls << 'init'
+        }
+
+        @PreDestroy
+        private String destroy() {
+            calls << 'destroy'
+            return 'ignored'
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import spock.lang.Specification
+
+import javax.annotation.PostConstruct
+import javax.inject.Inject
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ParallelExecutionTest extends Specification {
+
+    def "Check parallel execution"() {
+
+        when:
+        Collector collector = TestSupport.runCoreApp(App, null) {
+            it.getInstance(Collector)
+        }
+
+        then: "same order methods executed concurrently (met on barrier)"
+        collector.met == ['first', 'second'] as Set
+        collector.threads['first'] != collector.threads['second']
+        collector.threads['first'].startsWith('lifecycle-PostConstruct-')
+
+        and: "ordered method executed after"
+        collector.calls.last() == 'third'
+        collector.calls.size() == 3
+    }
+
+    def "Check parallel execution failure"() {
+
+        when: 'start method throws exception'
+        TestSupport.runCoreApp(FailedApp, null)
+
+        then: 'entire startup fails'
+        def ex = thrown(IllegalStateException)
+        ex.message.startsWith('Failed to execute method Failure.start')
+    }
+
+    static class App extends Application<Configuration> {
+
+        Class[] exts = [Collector, First, Second, Third]
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap
+                    .addBundle(GuiceBundle.builder()
+                            .bundles(new LifecycleAnnotationsBundle().withParallelExecution(4))
+                            .extensions(exts)
+                            .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class FailedApp extends App {
+        FailedApp() {
+            exts = [Collector, Other, Failure]
+        }
+    }
+
+    @EagerSingleton
+    static class Collector {
+        List<String> calls = Collections.synchronizedList([])
+        Map<String, String> threads = Collections.synchronizedMap([:])
+        Set<String> met = Collections.synchronizedSet([] as Set)
+        // sequential execution would fail with timeout
+        CyclicBarrier barrier = new CyclicBarrier(2)
+
+        void meet(String name) {
+            barrier.await(5, TimeUnit.SECONDS)
+            met << name
+        }
+
+        void called(String name) {
+            threads[name] = Thread.currentThread().name
+            calls << name
+        }
+    }
+
+    @EagerSingleton
+    static class First {
+        @Inject
+        Collector collector
+
+        @PostConstruct
+        private void start() {
+            collector.meet('first')
+            collector.called('first')
+        }
+    }
+
+    @EagerSingleton
+    static class Second {
+        @Inject
+        Collector collector
+
+        @PostConstruct
+        private void start() {
+            collector.meet('second')
+            collector.called('second')
+        }
+    }
+
+    @EagerSingleton
+    static class Third {
+        @Inject
+        Collector collector
+
+        @PostConstruct
+        @LifecycleOrder(1)
+        private void start() {
+            collector.called('third')
+        }
+    }
+
+    @EagerSingleton
+    static class Other {
+
+        @PostConstruct
+        private void start() {
+            sleep(200)
+        }
+    }
+
+    @EagerSingleton
+    static class Failure {
+
+        @PostConstruct
+        private void start() {
+            throw new IllegalStateException()
+        }
+    }
+}
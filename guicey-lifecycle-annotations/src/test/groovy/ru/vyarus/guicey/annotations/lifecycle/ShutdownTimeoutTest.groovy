@@ -0,0 +1,104 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
+import spock.lang.Specification
+
+import javax.annotation.PreDestroy
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ShutdownTimeoutTest extends Specification {
+
+    def "Check stuck method interrupted"() {
+
+        when:
+        MethodsCollector collector = new MethodsCollector()
+        Bean bean = new Bean()
+        ['stuck', 'fast'].each {
+            collector.register(PreDestroy, bean, Bean.getDeclaredMethod(it))
+        }
+        collector.setTimeouts(PreDestroy, Duration.ofMillis(200), null)
+        collector.safeCall(PreDestroy)
+
+        then: "stuck method interrupted and next method called"
+        bean.calls == ['stuck interrupted', 'fast']
+        collector.getMethods(PreDestroy)[0].timedOut
+        !collector.getMethods(PreDestroy)[1].timedOut
+    }
+
+    def "Check overall shutdown timeout"() {
+
+        when:
+        MethodsCollector collector = new MethodsCollector()
+        Bean bean = new Bean()
+        ['stuck', 'last'].each {
+            collector.register(PreDestroy, bean, Bean.getDeclaredMethod(it))
+        }
+        collector.setTimeouts(PreDestroy, null, Duration.ofMillis(200))
+        long start = System.currentTimeMillis()
+        collector.safeCall(PreDestroy)
+
+        then: "stuck method interrupted and not started method skipped"
+        System.currentTimeMillis() - start < 2000
+        bean.calls == ['stuck interrupted']
+        collector.getMethods(PreDestroy).every { it.timedOut || !it.executed }
+    }
+
+    def "Check parallel shutdown"() {
+
+        when:
+        MethodsCollector collector = new MethodsCollector()
+        Bean bean = new Bean()
+        ['slow', 'slow2', 'last'].each {
+            collector.register(PreDestroy, bean, Bean.getDeclaredMethod(it))
+        }
+        collector.enableParallelExecution(2, PreDestroy)
+        collector.safeCall(PreDestroy)
+
+        then: "same order methods executed concurrently (each slow method saw the other one started)"
+        bean.calls.sort() == ['last', 'slow', 'slow2']
+        bean.calls.last() == 'last'
+    }
+
+    static class Bean {
+        List<String> calls = Collections.synchronizedList([])
+        // both slow methods must be started to release latch (sequential execution would wait for timeout)
+        CountDownLatch started = new CountDownLatch(2)
+
+        void stuck() {
+            try {
+                Thread.sleep(5000)
+                calls << 'stuck'
+            } catch (InterruptedException ignored) {
+                calls << 'stuck interrupted'
+            }
+        }
+
+        void fast() {
+            calls << 'fast'
+        }
+
+        void slow() {
+            calls << (awaitOther() ? 'slow' : 'slow executed alone')
+        }
+
+        void slow2() {
+            calls << (awaitOther() ? 'slow2' : 'slow2 executed alone')
+        }
+
+        private boolean awaitOther() {
+            started.countDown()
+            return started.await(3, TimeUnit.SECONDS)
+        }
+
+        @LifecycleOrder(1)
+        void last() {
+            calls << 'last'
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.vyarus.guicey.annotations.lifecycle
+
+import com.codahale.metrics.Timer
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.eager.EagerSingleton
+import ru.vyarus.dropwizard.guice.test.TestSupport
+import ru.vyarus.guicey.annotations.lifecycle.module.collector.MethodsCollector
+import ru.vyarus.guicey.annotations.lifecycle.module.report.LifecycleMethodsReporter
+import spock.lang.Specification
+
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class TimingReportTest extends Specification {
+
+    def "Check timing report"() {
+
+        setup:
+        MethodsCollector collector = new MethodsCollector()
+        SlowBean bean = new SlowBean()
+        collector.register(PostConstruct, bean, SlowBean.getDeclaredMethod('start'))
+        collector.register(PostStartup, bean, SlowBean.getDeclaredMethod('afterStartup'))
+        LifecycleMethodsReporter reporter = new LifecycleMethodsReporter(collector)
+
+        expect: "nothing to report before execution"
+        reporter.renderReport('startup', PostConstruct, PostStartup) == null
+
+        when: "methods executed"
+        collector.call(PostConstruct)
+        collector.call(PostStartup)
+        String report = reporter.renderReport('startup', PostConstruct, PostStartup)
+        then: "slowest method first"
+        report.startsWith('Slowest lifecycle methods (startup) =')
+        report.contains('@PostConstruct          1 methods')
+        report.indexOf(SlowBean.name + '.start') < report.indexOf(SlowBean.name + '.afterStartup')
+    }
+
+    def "Check timing metrics"() {
+
+        when:
+        Map<String, Timer> timers = TestSupport.runWebApp(App, null) {
+            it.getInstance(Environment).metrics().timers
+        }
+
+        then:
+        timers[SlowBean.name + '.start.PostConstruct'].count == 1
+        timers[SlowBean.name + '.afterStartup.PostStartup'].count == 1
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap
+                    .addBundle(GuiceBundle.builder()
+                            .extensions(SlowBean)
+                            .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @EagerSingleton
+    static class SlowBean {
+
+        @PostConstruct
+        private void start() {
+            sleep(50)
+        }
+
+        @PostStartup
+        private void afterStartup() {
+        }
+
+        @PreDestroy
+        private void stop() {
+        }
+    }
+}
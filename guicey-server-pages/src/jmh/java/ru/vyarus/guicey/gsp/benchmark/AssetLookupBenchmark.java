@@ -0,0 +1,80 @@
+package ru.vyarus.guicey.gsp.benchmark;
+
+import com.google.common.collect.ImmutableMultimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+import ru.vyarus.guicey.gsp.app.asset.AssetSources;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares assets resolution with linear classpath scan (all locations and class loaders checked for each call),
+ * resolved assets cache and startup assets index.
+ * <p>
+ * Application assets emulated with webjars locations (jquery webjar): root location and few sub url mappings
+ * (as with application extensions).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssetLookupBenchmark {
+
+    private static final String WEBJARS = "META-INF/resources/webjars/";
+
+    @Param({"jquery/3.4.1/dist/jquery.min.js", "lib/jquery.min.js", "src/core.js", "missing/style.css"})
+    public String path;
+
+    private AssetLookup scan;
+    private AssetLookup cached;
+    private AssetLookup indexed;
+
+    @Setup
+    public void setUp() {
+        scan = create(0, false);
+        cached = create(AssetLookup.DEFAULT_CACHE_SIZE, false);
+        indexed = create(0, true);
+    }
+
+    @Benchmark
+    public String linearScan() {
+        return scan.lookupPath(path);
+    }
+
+    @Benchmark
+    public String cachedLookup() {
+        return cached.lookupPath(path);
+    }
+
+    @Benchmark
+    public String indexLookup() {
+        return indexed.lookupPath(path);
+    }
+
+    private AssetLookup create(final int cacheSize, final boolean index) {
+        final String jquery = WEBJARS + "jquery/3.4.1/";
+        // the same order as in application (see ServerPagesApp.collectAssets)
+        final ImmutableMultimap<String, String> locations = ImmutableMultimap.<String, String>builder()
+                .orderKeysBy(Comparator.comparing(String::length).reversed())
+                .putAll("lib/", jquery + "dist/", jquery + "external/")
+                .put("src/", jquery + "src/")
+                .putAll("", jquery, WEBJARS)
+                .build();
+        final ImmutableMultimap.Builder<String, ClassLoader> loaders = ImmutableMultimap.<String, ClassLoader>builder()
+                .orderKeysBy(Comparator.comparing(String::length).reversed());
+        for (String pkg : locations.values()) {
+            loaders.put(pkg, AssetSources.DEFAULT_LOADER);
+        }
+        return new AssetLookup("app/", locations, loaders.build(), cacheSize, index);
+    }
+}
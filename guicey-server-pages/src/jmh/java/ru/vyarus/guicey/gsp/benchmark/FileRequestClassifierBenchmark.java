@@ -0,0 +1,116 @@
+package ru.vyarus.guicey.gsp.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import io.dropwizard.views.common.View;
+import io.dropwizard.views.common.ViewRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vyarus.guicey.gsp.ServerPagesBundle;
+import ru.vyarus.guicey.gsp.app.filter.FileRequestClassifier;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares server pages filter decision path (is request a file and is it a template): file detection regex
+ * with renderers check for each request (dummy view creation) and extension-based classifier.
+ * <p>
+ * Renderers emulate dropwizard freemarker and mustache renderers (detection by extension).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FileRequestClassifierBenchmark {
+
+    @Param({"/app/css/style.css", "/app/sub/page.ftl", "/app/some/route/"})
+    public String uri;
+
+    private Pattern pattern;
+    private List<ViewRenderer> renderers;
+    private FileRequestClassifier classifier;
+
+    @Setup
+    public void setUp() {
+        pattern = Pattern.compile(ServerPagesBundle.FILE_REQUEST_PATTERN);
+        renderers = ImmutableList.of(new ExtensionRenderer("freemarker", ".ftl"),
+                new ExtensionRenderer("mustache", ".mustache"));
+        classifier = new FileRequestClassifier(ServerPagesBundle.FILE_REQUEST_PATTERN, renderers);
+    }
+
+    @Benchmark
+    public boolean regexAndRenderers() {
+        final Matcher matcher = pattern.matcher(uri);
+        if (!matcher.find()) {
+            return false;
+        }
+        final View view = new DummyView(matcher.group(1));
+        for (ViewRenderer renderer : renderers) {
+            if (renderer.isRenderable(view)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean classifier() {
+        final String file = classifier.findFile(uri);
+        return file != null && classifier.isTemplate(file);
+    }
+
+    /**
+     * Dummy view, as used in filter before.
+     */
+    private static class DummyView extends View {
+        DummyView(final String templateName) {
+            super(templateName);
+        }
+    }
+
+    /**
+     * Renderer, recognizing templates by extension (as dropwizard renderers).
+     */
+    private static class ExtensionRenderer implements ViewRenderer {
+        private final String key;
+        private final String extension;
+
+        ExtensionRenderer(final String key, final String extension) {
+            this.key = key;
+            this.extension = extension;
+        }
+
+        @Override
+        public boolean isRenderable(final View view) {
+            return view.getTemplateName().endsWith(extension);
+        }
+
+        @Override
+        public void render(final View view, final Locale locale, final OutputStream output) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void configure(final Map<String, String> options) {
+            // not needed
+        }
+
+        @Override
+        public String getConfigurationKey() {
+            return key;
+        }
+    }
+}
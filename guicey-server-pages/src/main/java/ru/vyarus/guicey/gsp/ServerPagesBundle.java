@@ -23,7 +23,10 @@ import ru.vyarus.guicey.gsp.app.ServerPagesAppBundle.AppBuilder;
 import ru.vyarus.guicey.gsp.app.asset.freemarker.FreemarkerTemplateLoader;
 import ru.vyarus.guicey.gsp.app.ext.ServerPagesAppExtensionBundle;
 import ru.vyarus.guicey.gsp.app.rest.log.RestPathsAnalyzer;
+import ru.vyarus.guicey.gsp.app.rest.mapping.RestResourcesIndex;
 import ru.vyarus.guicey.gsp.app.rest.support.DirectTemplateExceptionMapper;
+import ru.vyarus.guicey.gsp.app.rest.support.StreamingTemplateInterceptor;
+import ru.vyarus.guicey.gsp.app.rest.support.StreamingTemplateWriter;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateAnnotationFilter;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateErrorResponseFilter;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateExceptionListener;
@@ -363,7 +366,10 @@ public class ServerPagesBundle extends UniqueGuiceyBundle {
                         // intercept rest (template) rendering exceptions in rest
                         TemplateExceptionListener.class,
                         // Direct templates support
-                        DirectTemplateExceptionMapper.class);
+                        DirectTemplateExceptionMapper.class,
+                        // @StreamingTemplate rendering (other views rendered by dropwizard writer)
+                        StreamingTemplateWriter.class,
+                        StreamingTemplateInterceptor.class);
     }
 
     @Override
@@ -391,8 +397,9 @@ public class ServerPagesBundle extends UniqueGuiceyBundle {
             // server.rootPath
             final String restMapping = PathUtils.trailingSlash(PathUtils.trimStars(env.jersey().getUrlPattern()));
             final RestPathsAnalyzer analyzer = RestPathsAnalyzer.build(env.jersey().getResourceConfig());
+            final RestResourcesIndex resources = RestResourcesIndex.build(env.jersey().getResourceConfig());
             for (ServerPagesApp app : config.getApps()) {
-                app.jerseyStarted(contextPath, restMapping, analyzer);
+                app.jerseyStarted(contextPath, restMapping, analyzer, resources);
             }
         });
     }
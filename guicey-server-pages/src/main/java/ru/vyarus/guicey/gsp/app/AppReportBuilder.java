@@ -53,7 +53,10 @@ public final class AppReportBuilder {
 
     private static void reportStaticResources(final StringBuilder res, final ServerPagesApp app) {
         res.append(NEWLINE).append(NEWLINE)
-                .append(TAB).append("Static resources locations:").append(NEWLINE);
+                .append(TAB).append("Static resources locations")
+                .append(app.assets.getIndex() != null
+                        ? String.format(" (%s indexed resources)", app.assets.getIndex().size()) : "")
+                .append(':').append(NEWLINE);
         for (String url : app.assets.getLocations().keySet()) {
             res.append(TAB).append(TAB)
                     .append(PathUtils.normalize(app.fullUriPath + PathUtils.leadingSlash(url))).append(NEWLINE);
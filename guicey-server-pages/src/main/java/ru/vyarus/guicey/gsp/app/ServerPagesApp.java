@@ -14,13 +14,16 @@ import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
 import ru.vyarus.guicey.gsp.app.asset.AssetSources;
 import ru.vyarus.guicey.gsp.app.asset.servlet.AssetResolutionServlet;
 import ru.vyarus.guicey.gsp.app.filter.ServerPagesFilter;
+import ru.vyarus.guicey.gsp.app.filter.redirect.DirectTemplateRenderer;
 import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
+import ru.vyarus.guicey.gsp.app.filter.redirect.RenderedPageCache;
 import ru.vyarus.guicey.gsp.app.filter.redirect.SpaSupport;
 import ru.vyarus.guicey.gsp.app.filter.redirect.TemplateRedirect;
 import ru.vyarus.guicey.gsp.app.rest.log.HiddenViewPath;
 import ru.vyarus.guicey.gsp.app.rest.log.MappedViewPath;
 import ru.vyarus.guicey.gsp.app.rest.log.RestPathsAnalyzer;
 import ru.vyarus.guicey.gsp.app.rest.log.ViewPath;
+import ru.vyarus.guicey.gsp.app.rest.mapping.RestResourcesIndex;
 import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestLookup;
 import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestSources;
 import ru.vyarus.guicey.gsp.info.model.GspApp;
@@ -71,6 +74,18 @@ public class ServerPagesApp {
     // view rest prefixes mappings
     protected final ViewRestSources viewPrefixes = new ViewRestSources();
     protected final Map<Integer, String> errorPages = new TreeMap<>();
+    // resolved assets cache size (0 to disable)
+    protected int assetsCacheSize = AssetLookup.DEFAULT_CACHE_SIZE;
+    // build assets index at startup
+    protected boolean indexAssets;
+    // serve assets from memory (with compression)
+    protected boolean precompressedAssets;
+    // support fingerprinted assets urls
+    protected boolean fingerprintedAssets;
+    // rendered pages cache size (0 to disable)
+    protected int renderedPagesCacheSize = RenderedPageCache.DEFAULT_SIZE;
+    // render direct templates without rest
+    protected boolean directTemplatesRender;
 
 
     // STARTUP CONFIGURATION
@@ -80,6 +95,7 @@ public class ServerPagesApp {
     protected TemplateRedirect templateRedirect;
     // all locations, including all extensions
     protected AssetLookup assets;
+    protected AssetResolutionServlet assetsServlet;
     protected ViewRestLookup views;
     protected List<MappedViewPath> viewPaths;
     protected List<HiddenViewPath> hiddenViewPaths;
@@ -119,7 +135,11 @@ public class ServerPagesApp {
                 fullUriPath,
                 views,
                 assets,
-                new ErrorRedirect(uriPath, errorPages, spa));
+                assetsServlet,
+                new ErrorRedirect(uriPath, errorPages, spa),
+                renderedPagesCacheSize > 0 ? new RenderedPageCache(renderedPagesCacheSize) : null,
+                directTemplatesRender ? new DirectTemplateRenderer(config.getRenderers(), environment.metrics())
+                        : null);
         installTemplatesSupportFilter(context, templateRedirect, spa, config.getRenderers());
     }
 
@@ -130,9 +150,16 @@ public class ServerPagesApp {
      * @param restContext rest context mapping ( == main context mapping)
      * @param restMapping servlet mapping (under main context)
      * @param analyzer    rest analyzer
+     * @param resources   all rest resources paths
      */
-    public void jerseyStarted(final String restContext, final String restMapping, final RestPathsAnalyzer analyzer) {
+    public void jerseyStarted(final String restContext,
+                              final String restMapping,
+                              final RestPathsAnalyzer analyzer,
+                              final RestResourcesIndex resources) {
         templateRedirect.setRootPath(restContext, restMapping);
+        if (templateRedirect.getDirectRenderer() != null) {
+            templateRedirect.getDirectRenderer().setRestResources(resources);
+        }
         analyzePaths(analyzer);
         logger.info(AppReportBuilder.build(this));
         started = true;
@@ -208,7 +235,8 @@ public class ServerPagesApp {
         }
 
         // process paths the same way as assets servlet does
-        return new AssetLookup(mainAssetsPath, urlsBuilder.build(), loadersBuilder.build());
+        return new AssetLookup(mainAssetsPath, urlsBuilder.build(), loadersBuilder.build(), assetsCacheSize,
+                indexAssets);
     }
 
     private ViewRestLookup collectViews(final GlobalConfig config) {
@@ -228,7 +256,7 @@ public class ServerPagesApp {
                 .<String, String>orderedBy(Comparator.comparing(String::length).reversed())
                 .putAll(viewPrefixes.getPrefixes());
 
-        // process paths the same way as assets servlet does
+        // process paths the same way as assets servlet does (sub urls prefix tree built once here)
         return new ViewRestLookup(builder.build());
     }
 
@@ -239,9 +267,10 @@ public class ServerPagesApp {
      * @param context main or admin context
      */
     private void installAssetsServlet(final ServletEnvironment context) {
-        final Set<String> clash = context.addServlet(name,
-                // note: if index file is template, it will be handled by filter
-                new AssetResolutionServlet(assets, uriPath, indexFile, StandardCharsets.UTF_8))
+        // note: if index file is template, it will be handled by filter
+        assetsServlet = new AssetResolutionServlet(assets, uriPath, indexFile, StandardCharsets.UTF_8,
+                precompressedAssets, fingerprintedAssets);
+        final Set<String> clash = context.addServlet(name, assetsServlet)
                 .addMapping(uriPath + '*');
 
         if (clash != null && !clash.isEmpty()) {
@@ -317,6 +317,120 @@ public class ServerPagesAppBundle implements GuiceyBundle {
             return this;
         }
 
+        /**
+         * Resolved assets are cached (including not found assets) to avoid classpath scanning (in all registered
+         * locations and class loaders) for each request. By default, cache is limited to
+         * {@link ru.vyarus.guicey.gsp.app.asset.AssetLookup#DEFAULT_CACHE_SIZE} entries.
+         * <p>
+         * Cache also applies to templates resolution, so if new templates (or assets) could appear at runtime
+         * (e.g. during development with templates hot-reload) then cache must be disabled with
+         * {@link #disableAssetsCache()}.
+         *
+         * @param size maximum cache size (0 to disable cache)
+         * @return builder instance for chained calls
+         */
+        public AppBuilder assetsCacheSize(final int size) {
+            checkArgument(size >= 0, "Cache size can't be negative");
+            app.assetsCacheSize = size;
+            return this;
+        }
+
+        /**
+         * Disable resolved assets cache. Useful during development, when new files could appear at runtime
+         * (cache remembers not found assets too).
+         *
+         * @return builder instance for chained calls
+         * @see #assetsCacheSize(int)
+         */
+        public AppBuilder disableAssetsCache() {
+            return assetsCacheSize(0);
+        }
+
+        /**
+         * Index all application assets at startup: all resources in registered locations (including extensions)
+         * are enumerated and stored in the prefix tree (by url). After that assets (and templates) resolution
+         * would not require class loaders usage at all (lookup cost depends only on path length).
+         * <p>
+         * Only assets from file system directories and jar files could be indexed (if some location could not be
+         * indexed, warning would be logged and usual lookup used). Jar files must contain directories entries
+         * (default for all build tools).
+         * <p>
+         * Index is a startup snapshot so it must not be used when new files could appear at runtime.
+         *
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.gsp.app.asset.AssetIndex
+         */
+        public AppBuilder indexAssets() {
+            app.indexAssets = true;
+            return this;
+        }
+
+        /**
+         * Serve static assets from memory: each asset is loaded only once and stored off-heap together with
+         * compressed versions (for text assets). Gzip version is created automatically (or ".gz" sibling used
+         * if found in assets), brotli version is used only if ".br" sibling exists. Response encoding selected
+         * according to Accept-Encoding header. Templates are not affected.
+         * <p>
+         * Must not be used when assets could change at runtime (assets are never re-loaded).
+         *
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.spa.asset.CompressedAssetServlet
+         */
+        public AppBuilder precompressedAssets() {
+            app.precompressedAssets = true;
+            return this;
+        }
+
+        /**
+         * Enable fingerprinted assets urls: templates could generate asset urls with content hash in file name
+         * (e.g. "css/style.3f2a9c0d1e.css") using {@code assetUrl('css/style.css')} helper (see
+         * {@link ru.vyarus.guicey.gsp.views.template.TemplateView#assetUrl(String)}). Such urls are served with
+         * immutable cache header ("Cache-Control: public, max-age=31536000, immutable"), so browser would never
+         * request them again (while content stays the same). Content hash is also used as strong entity tag.
+         * <p>
+         * Assets are loaded and hashed once (on first usage) and stored in memory. Could be used together with
+         * {@link #precompressedAssets()}. Must not be used when assets could change at runtime.
+         *
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.spa.asset.AssetFingerprint
+         */
+        public AppBuilder fingerprintedAssets() {
+            app.fingerprintedAssets = true;
+            return this;
+        }
+
+        /**
+         * Maximum count of pre-rendered pages cached for resources annotated with
+         * {@link ru.vyarus.guicey.gsp.views.template.CachedTemplate} (500 by default). Least recently used pages
+         * are evicted. Zero value disables pages cache (annotation would be ignored).
+         *
+         * @param size maximum count of cached pages
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.gsp.app.filter.redirect.RenderedPageCache
+         */
+        public AppBuilder renderedPagesCacheSize(final int size) {
+            checkArgument(size >= 0, "Cache size can't be negative");
+            app.renderedPagesCacheSize = size;
+            return this;
+        }
+
+        /**
+         * By default, direct template calls (template file requested directly, without custom resource) are
+         * redirected into rest, as any other template. Enable direct rendering to render direct templates, which
+         * could not be handled by any rest resource, without redirection into rest (no jersey matching, filters
+         * and listeners). Error pages work the same way in both cases.
+         * <p>
+         * Do not enable direct rendering if jersey filters must be applied for direct templates too (e.g. global
+         * security, CORS or security headers filters).
+         *
+         * @return builder instance for chained calls
+         * @see ru.vyarus.guicey.gsp.app.filter.redirect.DirectTemplateRenderer
+         */
+        public AppBuilder enableDirectTemplatesRender() {
+            app.directTemplatesRender = true;
+            return this;
+        }
+
         /**
          * Dropwizard views configuration modification. Views configuration could be bound only in global server pages
          * support bundle
@@ -0,0 +1,278 @@
+package ru.vyarus.guicey.gsp.app.asset;
+
+import com.google.common.collect.Multimap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Startup index of all application assets. Registered asset locations are fixed at startup, so all classpath
+ * resources under registered packages could be enumerated once and resolved later without class loaders
+ * ({@link ClassLoader#getResource(String)}) calls.
+ * <p>
+ * Index is a prefix tree (by path segments): each node represents url folder (or file) and contains resolved
+ * asset location (according to locations priority) together with asset packages, registered for this sub url
+ * (for error reporting). So lookup cost depends only on path length (not on the number of registered locations).
+ * <p>
+ * Separate classpath paths map is used for loading already resolved (absolute) classpath paths.
+ * <p>
+ * Only file system directories and jar files could be enumerated. If any location could not be enumerated (for
+ * example, custom class loader with special protocol) then index could not be built and usual assets lookup must
+ * be used. Note that jar files must contain directory entries (which is the default for all build tools).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class AssetIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AssetIndex.class);
+    private static final char SLASH = '/';
+
+    private final Node root;
+    // absolute classpath path (without leading slash) --> location
+    private final Map<String, AssetLookup.AssetLocation> classpath;
+
+    private AssetIndex(final Node root, final Map<String, AssetLookup.AssetLocation> classpath) {
+        this.root = root;
+        this.classpath = classpath;
+    }
+
+    /**
+     * Builds assets index. Locations and loaders must be sorted in lookup order (see {@link AssetLookup}).
+     *
+     * @param locations mapping of url to classpath package
+     * @param loaders   mapping of package to class loader
+     * @return assets index or null if some location could not be enumerated
+     */
+    public static AssetIndex build(final Multimap<String, String> locations,
+                                   final Multimap<String, ClassLoader> loaders) {
+        final Scanner scanner = new Scanner();
+        try {
+            final Node root = new Node();
+            for (String subUrl : locations.keySet()) {
+                final List<String> packages = new ArrayList<>();
+                for (String pkg : locations.get(subUrl)) {
+                    packages.add(PathUtils.trimSlashes(subUrl + pkg).replace('/', '.'));
+                    for (ClassLoader loader : loaders.get(pkg)) {
+                        for (Map.Entry<String, URL> entry : scanner.scan(pkg, loader).entrySet()) {
+                            final String rel = entry.getKey();
+                            // first registration wins: locations processed in priority order
+                            root.add(subUrl + rel, new AssetLookup.AssetLocation(pkg + rel, loader, entry.getValue()));
+                        }
+                    }
+                }
+                root.add(subUrl, null).packages = packages;
+            }
+
+            final Map<String, AssetLookup.AssetLocation> paths = new HashMap<>();
+            for (String pkg : loaders.keySet()) {
+                for (ClassLoader loader : loaders.get(pkg)) {
+                    for (Map.Entry<String, URL> entry : scanner.scan(pkg, loader).entrySet()) {
+                        final String path = PathUtils.trimTrailingSlash(pkg + entry.getKey());
+                        paths.computeIfAbsent(path, key ->
+                                new AssetLookup.AssetLocation(pkg + entry.getKey(), loader, entry.getValue()));
+                    }
+                }
+            }
+            return new AssetIndex(root, paths);
+        } catch (UnsupportedOperationException | IOException | UncheckedIOException | URISyntaxException ex) {
+            LOGGER.warn("Assets index could not be built, assets would be searched in classpath for each request",
+                    ex);
+            return null;
+        }
+    }
+
+    /**
+     * @return number of indexed assets (including directories)
+     */
+    public int size() {
+        return classpath.size();
+    }
+
+    /**
+     * Lookup asset by url (relative to application root, without leading slash).
+     *
+     * @param url asset url
+     * @return resolved asset location or null if not found
+     */
+    public AssetLookup.AssetLocation lookup(final String url) {
+        Node node = root;
+        int start = 0;
+        final int length = url.length();
+        while (node != null && start < length) {
+            int end = url.indexOf(SLASH, start);
+            if (end < 0) {
+                end = length;
+            }
+            // empty segments ignored (double slash)
+            if (end > start) {
+                node = node.child(url.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return node == null ? null : node.location;
+    }
+
+    /**
+     * Load asset by absolute classpath path (without leading slash).
+     *
+     * @param path classpath path
+     * @return resolved asset location or null if not found
+     */
+    public AssetLookup.AssetLocation load(final String path) {
+        AssetLookup.AssetLocation res = classpath.get(path);
+        if (res == null && !path.isEmpty() && path.charAt(path.length() - 1) == SLASH) {
+            // directories indexed without trailing slash
+            res = classpath.get(path.substring(0, path.length() - 1));
+        }
+        return res;
+    }
+
+    /**
+     * Resolve asset packages, registered for url (in lookup order).
+     *
+     * @param url url relative to application root (without leading slash)
+     * @return asset packages (with sub url prefix)
+     */
+    public List<String> getMatchingLocations(final String url) {
+        final List<String> res = new ArrayList<>();
+        Node node = root;
+        int start = 0;
+        final int length = url.length();
+        // root packages go last
+        res.addAll(0, node.packages);
+        while (start < length) {
+            final int end = url.indexOf(SLASH, start);
+            // only folders (ending with slash) are matching sub urls
+            if (end < 0) {
+                break;
+            }
+            if (end > start) {
+                node = node.child(url.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                res.addAll(0, node.packages);
+            }
+            start = end + 1;
+        }
+        return res;
+    }
+
+    /**
+     * Index node (url path segment).
+     */
+    private static class Node {
+        private Map<String, Node> children = Collections.emptyMap();
+        private AssetLookup.AssetLocation location;
+        private List<String> packages = Collections.emptyList();
+
+        Node child(final String name) {
+            return children.get(name);
+        }
+
+        Node add(final String url, final AssetLookup.AssetLocation location) {
+            Node node = this;
+            for (String segment : url.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (node.children.isEmpty()) {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            if (node.location == null) {
+                node.location = location;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Classpath resources enumeration. Scan results are cached because the same package may be registered
+     * for multiple urls.
+     */
+    private static class Scanner {
+        private final Map<String, Map<ClassLoader, Map<String, URL>>> cache = new HashMap<>();
+
+        Map<String, URL> scan(final String pkg, final ClassLoader loader)
+                throws IOException, URISyntaxException {
+            final Map<ClassLoader, Map<String, URL>> byLoader =
+                    cache.computeIfAbsent(pkg, key -> new IdentityHashMap<>());
+            Map<String, URL> res = byLoader.get(loader);
+            if (res == null) {
+                // relative path --> resource url (first occurrence wins, as for getResource)
+                res = new LinkedHashMap<>();
+                final Enumeration<URL> roots = loader.getResources(pkg);
+                while (roots.hasMoreElements()) {
+                    final URL url = roots.nextElement();
+                    switch (url.getProtocol()) {
+                        case "file":
+                            scanDirectory(Paths.get(url.toURI()), res);
+                            break;
+                        case "jar":
+                            scanJar(url, pkg, res);
+                            break;
+                        default:
+                            throw new UnsupportedOperationException(String.format(
+                                    "Assets location %s could not be indexed", url));
+                    }
+                }
+                byLoader.put(loader, res);
+            }
+            return res;
+        }
+
+        private void scanDirectory(final Path root, final Map<String, URL> res) throws IOException {
+            try (Stream<Path> files = Files.walk(root)) {
+                files.forEach(file -> {
+                    String rel = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                    if (!rel.isEmpty() && Files.isDirectory(file)) {
+                        rel += SLASH;
+                    }
+                    try {
+                        res.putIfAbsent(rel, file.toUri().toURL());
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        }
+
+        private void scanJar(final URL url, final String pkg, final Map<String, URL> res) throws IOException {
+            final JarURLConnection connection = (JarURLConnection) url.openConnection();
+            // avoid closing shared jar instance
+            connection.setUseCaches(false);
+            final String base = "jar:" + connection.getJarFileURL() + "!/";
+            try (JarFile jar = connection.getJarFile()) {
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final String name = entries.nextElement().getName();
+                    if (name.startsWith(pkg)) {
+                        res.putIfAbsent(name.substring(pkg.length()), new URL(base + name));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ru.vyarus.guicey.gsp.app.asset;
 
 import com.google.common.base.CharMatcher;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Multimap;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 
@@ -9,6 +11,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static ru.vyarus.dropwizard.guice.module.installer.util.PathUtils.SLASH;
@@ -35,22 +38,55 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.PathUtils.SLASH;
  * Overall, lookup performs two operations: lookup classpath path by url (probably using extra mapping) and
  * resource loading itself. First phase obviously performs lookup too (duplicates second phase), but separate
  * phases are still required to be able to lookup templates directly (using proper class loader).
+ * <p>
+ * Both lookup and loading results are cached (including misses) because registered locations are fixed at
+ * startup and the same assets are requested again and again. Cache is bounded (least recently used entries
+ * are evicted) and may be disabled (with zero size) during development, when new files could appear at runtime
+ * (e.g. with templates hot-reload).
+ * <p>
+ * Resolved template paths are also cached (see {@link #getResolvedTemplate(Class, String, String)}) because
+ * template resolution may require multiple lookups.
+ * <p>
+ * Alternatively, all assets could be indexed at startup (see {@link AssetIndex}) and so lookup would not require
+ * class loaders usage at all.
  *
  * @author Vyacheslav Rusakov
  * @since 26.11.2019
  */
 public class AssetLookup implements Serializable {
 
+    /**
+     * Default maximum size of resolved assets cache.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
     // primary location is important because assets servlet by default will compute path relative to it
     private final String primaryLocation;
     // mapping of url to classpath package (implicitly sorted by keys)
     private final Multimap<String, String> locations;
     // mapping of package to class loader (implicitly sorted by keys)
     private final Multimap<String, ClassLoader> loaders;
+    private final int cacheSize;
+    // request path --> resolved location (empty for not found assets)
+    private final transient Cache<String, Optional<AssetLocation>> lookupCache;
+    // classpath path --> loaded resource (empty for not found assets; context loader resources not cached)
+    private final transient Cache<String, Optional<URL>> loadCache;
+    // resource class + sub context + template --> resolved absolute template path (only found templates)
+    private final transient Cache<String, String> templatesCache;
+    // startup assets index (null when not used)
+    private final transient AssetIndex index;
 
     public AssetLookup(final String primaryLocation,
                        final Multimap<String, String> locations,
                        final Multimap<String, ClassLoader> loaders) {
+        this(primaryLocation, locations, loaders, DEFAULT_CACHE_SIZE, false);
+    }
+
+    public AssetLookup(final String primaryLocation,
+                       final Multimap<String, String> locations,
+                       final Multimap<String, ClassLoader> loaders,
+                       final int cacheSize,
+                       final boolean indexAssets) {
         // primary location without leading slash!
         this.primaryLocation = primaryLocation;
         // assume immutable map, properly built: keys sorted from longest to smaller (root locations last),
@@ -59,6 +95,12 @@ public class AssetLookup implements Serializable {
         this.locations = locations;
         // assume keys sorted the same, also immutable
         this.loaders = loaders;
+        this.cacheSize = cacheSize;
+        this.lookupCache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+        this.loadCache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+        this.templatesCache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+        // index would be null if some locations could not be indexed
+        this.index = indexAssets ? AssetIndex.build(locations, loaders) : null;
     }
 
     /**
@@ -87,6 +129,71 @@ public class AssetLookup implements Serializable {
         return loaders;
     }
 
+    /**
+     * @return maximum size of resolved assets cache (0 when cache disabled)
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * @return true if resolved assets are cached, false otherwise
+     */
+    public boolean isCacheEnabled() {
+        // cache may be also absent after deserialization
+        return lookupCache != null;
+    }
+
+    /**
+     * @return assets index or null if assets are not indexed
+     */
+    public AssetIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Clears resolved assets cache (including cached misses). Useful when assets could appear at runtime.
+     */
+    public void invalidateCache() {
+        if (isCacheEnabled()) {
+            lookupCache.invalidateAll();
+            loadCache.invalidateAll();
+            templatesCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Template path resolution depends on resource class (class-relative templates) and current rest sub context
+     * (see {@link ru.vyarus.guicey.gsp.views.template.TemplateContext#lookupTemplatePath(String)}). Only found
+     * templates are cached.
+     *
+     * @param resourceClass resource class or null
+     * @param subContext    rest sub context
+     * @param template      template path (as declared)
+     * @return resolved absolute template path or null if not cached (or cache disabled)
+     */
+    public String getResolvedTemplate(final Class resourceClass, final String subContext, final String template) {
+        return isCacheEnabled() ? templatesCache.getIfPresent(templateKey(resourceClass, subContext, template)) : null;
+    }
+
+    /**
+     * Cache resolved template path (ignored if cache disabled).
+     *
+     * @param resourceClass resource class or null
+     * @param subContext    rest sub context
+     * @param template      template path (as declared)
+     * @param path          resolved absolute template path
+     * @see #getResolvedTemplate(Class, String, String)
+     */
+    public void cacheResolvedTemplate(final Class resourceClass,
+                                      final String subContext,
+                                      final String template,
+                                      final String path) {
+        if (isCacheEnabled()) {
+            templatesCache.put(templateKey(resourceClass, subContext, template), path);
+        }
+    }
+
     /**
      * Checks if provided path is an absolute path into primary location and returns relative url instead.
      * It cuts off application url prefix in order to resolve proper path under all registered locations.
@@ -152,39 +259,23 @@ public class AssetLookup implements Serializable {
      * Will check first if provided path is already an absolute classpath location (assumed to be resolved with
      * {@link #lookupPath(String)}) and if nothing found perform full relative matching with
      * {@link #lookupUrl(String)} (kind of fallback mechanism).
+     * <p>
+     * If resource is not found with registered class loaders, context class loader is checked (just in case).
+     * <p>
+     * Result is cached (when cache enabled), including misses (cached only when all sources missed).
+     * Resource, found with context class loader, is not cached because context loader depends on the calling thread.
      *
      * @param assetPath exact classpath path
      * @return found resource or null
      */
     public URL load(final String assetPath) {
-        URL res;
-
-        // first, assume absolute path search (assumed to be already resolved to correct absolute classpath path)
-        // path above may not be prefixed with slash as, even absolute path must be normally searched without it
-        // so do more universal (forgiving) logic to reduce errors
-        final String path = CharMatcher.is('/').trimLeadingFrom(assetPath);
-        AssetLocation location = null;
-        // this might not be semantically correct in very complex mapping cases
-        for (ClassLoader loader : getMatchingLoaders(path)) {
-            location = find(path, loader);
-            if (location != null) {
-                break;
+        if (isCacheEnabled()) {
+            final Optional<URL> res = loadCache.getIfPresent(assetPath);
+            if (res != null) {
+                return res.orElse(null);
             }
         }
-        // look context class loader just in case
-        final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
-        if (location == null && contextLoader != null) {
-            // an additional try with context loader
-            location = find(path, contextLoader);
-        }
-        res = location == null ? null : location.getUrl();
-
-        // relative search under all registered locations if absolute search failed
-        // only to catch some not quite correct usage scenarios
-        if (res == null && !assetPath.startsWith(SLASH)) {
-            res = lookupUrl(assetPath);
-        }
-        return res;
+        return doLoad(assetPath);
     }
 
     /**
@@ -195,31 +286,27 @@ public class AssetLookup implements Serializable {
      * path then path '/foo/bar/sample.css' will be checked first in path-specific assets. Multiple asset packages
      * could be configured on each path: assets checked in registration-reverse order to grant regitstration
      * order priority (resources from package, registered later are prioritized).
+     * <p>
+     * Result is cached (when cache enabled).
      *
      * @param path path to find asset for
      * @return matched location or null if not found
      */
     public AssetLocation lookup(final String path) {
-        final String relativePath = getRelativePath(path);
-        AssetLocation res = null;
-        final String assetPath = CharMatcher.is('/').trimLeadingFrom(relativePath);
-        for (String subUrl : locations.keySet()) {
-            if (assetPath.startsWith(subUrl)) {
-                // root locations path will go last and will be ''
-                final String targetPath = subUrl.length() > 0 ? assetPath.substring(subUrl.length()) : assetPath;
-                for (String pkg : locations.get(subUrl)) {
-                    // class loaders registered by root package so we can get all registered by the known root package
-                    res = find(pkg + targetPath, loaders.get(pkg));
-                    if (res != null) {
-                        break;
-                    }
-                }
-                if (res != null) {
-                    break;
-                }
-            }
+        if (index != null) {
+            // index does not require caching
+            return index.lookup(CharMatcher.is('/').trimLeadingFrom(getRelativePath(path)));
         }
-        return res;
+        if (!isCacheEnabled()) {
+            return doLookup(path);
+        }
+        Optional<AssetLocation> res = lookupCache.getIfPresent(path);
+        if (res == null) {
+            // no need for atomic computation: in worst case the same location would be resolved twice
+            res = Optional.ofNullable(doLookup(path));
+            lookupCache.put(path, res);
+        }
+        return res.orElse(null);
     }
 
     /**
@@ -232,6 +319,9 @@ public class AssetLookup implements Serializable {
         final List<String> matches = new ArrayList<>();
         final String relativePath = getRelativePath(url);
         final String assetPath = CharMatcher.is('/').trimLeadingFrom(relativePath);
+        if (index != null) {
+            return index.getMatchingLocations(assetPath);
+        }
         for (String subUrl : locations.keySet()) {
             if (assetPath.startsWith(subUrl)) {
                 for (String loc : locations.get(subUrl)) {
@@ -266,6 +356,70 @@ public class AssetLookup implements Serializable {
         return res;
     }
 
+    private URL doLoad(final String assetPath) {
+        URL res;
+
+        // first, assume absolute path search (assumed to be already resolved to correct absolute classpath path)
+        // path above may not be prefixed with slash as, even absolute path must be normally searched without it
+        // so do more universal (forgiving) logic to reduce errors
+        final String path = CharMatcher.is('/').trimLeadingFrom(assetPath);
+        AssetLocation location = null;
+        if (index != null) {
+            location = index.load(path);
+        } else {
+            // this might not be semantically correct in very complex mapping cases
+            for (ClassLoader loader : getMatchingLoaders(path)) {
+                location = find(path, loader);
+                if (location != null) {
+                    break;
+                }
+            }
+        }
+        // look context class loader just in case
+        final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        boolean contextResource = false;
+        if (location == null && contextLoader != null) {
+            // an additional try with context loader
+            location = find(path, contextLoader);
+            contextResource = location != null;
+        }
+        res = location == null ? null : location.getUrl();
+
+        // relative search under all registered locations if absolute search failed
+        // only to catch some not quite correct usage scenarios
+        if (res == null && !assetPath.startsWith(SLASH)) {
+            res = lookupUrl(assetPath);
+        }
+        // context loader resolution depends on calling thread
+        if (isCacheEnabled() && !contextResource) {
+            loadCache.put(assetPath, Optional.ofNullable(res));
+        }
+        return res;
+    }
+
+    private AssetLocation doLookup(final String path) {
+        final String relativePath = getRelativePath(path);
+        AssetLocation res = null;
+        final String assetPath = CharMatcher.is('/').trimLeadingFrom(relativePath);
+        for (String subUrl : locations.keySet()) {
+            if (assetPath.startsWith(subUrl)) {
+                // root locations path will go last and will be ''
+                final String targetPath = subUrl.length() > 0 ? assetPath.substring(subUrl.length()) : assetPath;
+                for (String pkg : locations.get(subUrl)) {
+                    // class loaders registered by root package so we can get all registered by the known root package
+                    res = find(pkg + targetPath, loaders.get(pkg));
+                    if (res != null) {
+                        break;
+                    }
+                }
+                if (res != null) {
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
     private AssetLocation find(final String path, final Iterable<ClassLoader> loaders) {
         AssetLocation res = null;
         for (ClassLoader loader : loaders) {
@@ -282,6 +436,10 @@ public class AssetLookup implements Serializable {
         return target != null ? new AssetLocation(path, loader, target) : null;
     }
 
+    private String templateKey(final Class resourceClass, final String subContext, final String template) {
+        return (resourceClass == null ? "" : resourceClass.getName()) + '|' + subContext + '|' + template;
+    }
+
     /**
      * Represent resolved asset location: actual classpath path (absolute) and target class loader (where resource
      * found). Object used to cover various situations: only target classpath path required or file itself.
@@ -1,21 +1,23 @@
 package ru.vyarus.guicey.gsp.app.asset.servlet;
 
-import io.dropwizard.servlets.assets.AssetServlet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+import ru.vyarus.guicey.spa.asset.CompressedAssetServlet;
 
 import javax.annotation.Nullable;
 import java.net.URL;
 import java.nio.charset.Charset;
 
 /**
- * Customized dropwizard {@link AssetServlet} which is able to search assets in multiple classpath locations.
+ * Customized dropwizard {@link io.dropwizard.servlets.assets.AssetServlet} which is able to search assets in
+ * multiple classpath locations. Assets could be served from memory (with compression) and requested with
+ * fingerprinted urls, see {@link CompressedAssetServlet}.
  *
  * @author Vyacheslav Rusakov
  * @since 04.12.2018
  */
-public class AssetResolutionServlet extends AssetServlet {
+public class AssetResolutionServlet extends CompressedAssetServlet {
     private static final long serialVersionUID = 6393345594784987909L;
 
     private final transient Logger logger = LoggerFactory.getLogger(AssetResolutionServlet.class);
@@ -25,11 +27,13 @@ public class AssetResolutionServlet extends AssetServlet {
     public AssetResolutionServlet(final AssetLookup assets,
                                   final String uriPath,
                                   @Nullable final String indexFile,
-                                  @Nullable final Charset defaultCharset) {
+                                  @Nullable final Charset defaultCharset,
+                                  final boolean precompressed,
+                                  final boolean fingerprinted) {
         // asset servlet will work with single (main) assets location
         // main assets location placed last for overrides (.extendApp())
         //resourceLocations.get(resourceLocations.size() - 1)
-        super(assets.getPrimaryLocation(), uriPath, indexFile, defaultCharset);
+        super(assets.getPrimaryLocation(), uriPath, indexFile, defaultCharset, precompressed, fingerprinted);
         this.assets = assets;
     }
 
@@ -50,4 +54,10 @@ public class AssetResolutionServlet extends AssetServlet {
         }
         return res;
     }
+
+    @Override
+    protected URL findResource(final String absolutePath) {
+        // lookup without not found asset logging
+        return assets.lookupUrl(absolutePath);
+    }
 }
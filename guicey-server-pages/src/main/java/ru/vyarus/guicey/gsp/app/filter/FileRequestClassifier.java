@@ -0,0 +1,138 @@
+package ru.vyarus.guicey.gsp.app.filter;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import io.dropwizard.views.common.View;
+import io.dropwizard.views.common.ViewRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.gsp.ServerPagesBundle;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Request classifier for {@link ServerPagesFilter}: detects file requests (request path ends with file name)
+ * and direct template calls (file extension recognized by one of view renderers).
+ * <p>
+ * For default file detection pattern ({@link ServerPagesBundle#FILE_REQUEST_PATTERN}) file name is extracted
+ * without regex: last path segment with alphanumeric extension. Custom patterns are still applied as regex.
+ * <p>
+ * Renderers are assumed to recognize templates by extension (as all dropwizard renderers do) so
+ * {@link ViewRenderer#isRenderable(View)} is called only once for each extension. Common template extensions are
+ * checked at startup and other extensions are resolved on first request (cache is bounded by
+ * {@link #MAX_CACHED_EXTENSIONS} because extension comes from request).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class FileRequestClassifier {
+
+    /**
+     * Maximum count of cached extensions (further extensions would be checked on each request).
+     */
+    public static final int MAX_CACHED_EXTENSIONS = 256;
+
+    private static final char SLASH = '/';
+    private static final char DOT = '.';
+    private static final List<String> KNOWN_EXTENSIONS = ImmutableList.of(
+            "ftl", "ftlh", "ftlx", "mustache", "hbs", "html", "htm", "css", "js", "json", "png", "svg", "ico");
+
+    private final Logger logger = LoggerFactory.getLogger(FileRequestClassifier.class);
+
+    // null for default pattern
+    private final Pattern filePattern;
+    private final Iterable<ViewRenderer> renderers;
+    // extension --> is template
+    private final Map<String, Boolean> extensions = new ConcurrentHashMap<>();
+
+    public FileRequestClassifier(final String filePattern, final Iterable<ViewRenderer> renderers) {
+        this.filePattern = ServerPagesBundle.FILE_REQUEST_PATTERN.equals(filePattern)
+                ? null : Pattern.compile(filePattern);
+        this.renderers = renderers;
+        for (String ext : KNOWN_EXTENSIONS) {
+            extensions.put(ext, checkRenderable(ext));
+        }
+    }
+
+    /**
+     * Extract file name from request path (e.g. /some/url/file.txt -&gt; file.txt).
+     *
+     * @param path request path
+     * @return file name or null if path does not end with file
+     */
+    public String findFile(final String path) {
+        return filePattern == null ? findFileFast(path) : findFileByPattern(path);
+    }
+
+    /**
+     * @param file file name (detected with {@link #findFile(String)})
+     * @return true if file is a template (could be rendered by one of view renderers)
+     */
+    public boolean isTemplate(final String file) {
+        final int dot = file.lastIndexOf(DOT);
+        // custom pattern could detect files without extension
+        final String ext = dot < 0 ? "" : file.substring(dot + 1);
+        Boolean res = extensions.get(ext);
+        if (res == null) {
+            res = checkRenderable(ext);
+            if (extensions.size() < MAX_CACHED_EXTENSIONS) {
+                extensions.put(ext, res);
+            }
+        }
+        if (res) {
+            logger.debug("Possible direct template {} request", file);
+        }
+        return res;
+    }
+
+    private String findFileFast(final String path) {
+        final int start = path.lastIndexOf(SLASH) + 1;
+        final int dot = path.lastIndexOf(DOT);
+        final int length = path.length();
+        // file name must not be empty and extension required
+        if (dot <= start || dot == length - 1) {
+            return null;
+        }
+        for (int i = dot + 1; i < length; i++) {
+            final char c = path.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                return null;
+            }
+        }
+        return start == 0 ? path : path.substring(start);
+    }
+
+    private String findFileByPattern(final String path) {
+        final Matcher matcher = filePattern.matcher(path);
+        final boolean detected = matcher.find();
+        Preconditions.checkState(!detected || matcher.groupCount() > 0,
+                "File detection pattern %s did not contain file capture group (1)",
+                filePattern.pattern());
+        // extracting template name
+        return detected ? matcher.group(1) : null;
+    }
+
+    private boolean checkRenderable(final String ext) {
+        final View view = new DummyView("template." + ext);
+        for (ViewRenderer renderer : renderers) {
+            if (renderer.isRenderable(view)) {
+                logger.debug("Extension '{}' recognized as {} template", ext, renderer.getConfigurationKey());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Dummy view for class used to re-use dropwizard renderer selection logic.
+     */
+    private static class DummyView extends View {
+        DummyView(final String templateName) {
+            super(templateName);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package ru.vyarus.guicey.gsp.app.filter;
 
-import com.google.common.base.Preconditions;
-import io.dropwizard.views.common.View;
 import io.dropwizard.views.common.ViewRenderer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,13 +18,12 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.Response;
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * The main filter, implementing server pages support. Filter is applied above assets servlet. For each request,
  * file call detected using pre-defined regexp (by default, looking if request end with en extensions - most
- * likely it's a file). Detected file extension checked if it's a template file. If not template then redirected to
+ * likely it's a file). Detected file extension checked if it's a template file (see {@link FileRequestClassifier}
+ * for implementation details). If not template then redirected to
  * assets servlet (normal dropwizard assets processing). In all other cases, request is redirected into
  * rest (with "{app name}" prefix) to be handled by rest resource (dropwizard views).
  * <p>
@@ -53,14 +50,15 @@ public class ServerPagesFilter implements Filter {
 
     // server app mapping
     private final String uriPath;
-    // file requets detection regexp
-    private final Pattern filePattern;
+    // file requests and direct templates detection
+    private final FileRequestClassifier classifier;
     // index page
     private final String index;
+    // index page is a file (and not some path)
+    private final boolean indexIsFile;
 
     private final TemplateRedirect redirect;
     private final SpaSupport spa;
-    private final Iterable<ViewRenderer> renderers;
 
     public ServerPagesFilter(final String uriPath,
                              final String filePattern,
@@ -69,11 +67,11 @@ public class ServerPagesFilter implements Filter {
                              final SpaSupport spa,
                              final Iterable<ViewRenderer> renderers) {
         this.uriPath = uriPath;
-        this.filePattern = Pattern.compile(filePattern);
+        this.classifier = new FileRequestClassifier(filePattern, renderers);
         this.index = index;
+        this.indexIsFile = classifier.findFile(index) != null;
         this.redirect = redirect;
         this.spa = spa;
-        this.renderers = renderers;
     }
 
     @Override
@@ -96,7 +94,7 @@ public class ServerPagesFilter implements Filter {
         // e.g. /some/url/file.txt?start=1 -> file.txt
         // file request could be either asset or direct template call
         final String pathFile = findFileInPath(req);
-        final boolean directTemplateCall = pathFile != null && isTemplate(pathFile);
+        final boolean directTemplateCall = pathFile != null && classifier.isTemplate(pathFile);
         if (pathFile != null && !directTemplateCall) {
             logger.debug("Serving asset: {}", requestURI);
             // delegate to asset servlet
@@ -130,17 +128,9 @@ public class ServerPagesFilter implements Filter {
 
     private String findFileInPath(final HttpServletRequest req) {
         if (isRoot(req)) {
-            // check if index page is a file (and not some path)
-            return filePattern.matcher(index).find() ? index : null;
+            return indexIsFile ? index : null;
         }
-
-        final Matcher matcher = filePattern.matcher(req.getRequestURI());
-        final boolean detected = matcher.find();
-        Preconditions.checkState(!detected || matcher.groupCount() > 0,
-                "File detection pattern %s did not contain file capture group (1)",
-                filePattern.pattern());
-        // extracting template name
-        return detected ? matcher.group(1) : null;
+        return classifier.findFile(req.getRequestURI());
     }
 
     private boolean isRoot(final HttpServletRequest req) {
@@ -149,17 +139,6 @@ public class ServerPagesFilter implements Filter {
         return path.equals(uriPath);
     }
 
-    private boolean isTemplate(final String file) {
-        final View view = new DummyView(file);
-        for (ViewRenderer renderer : renderers) {
-            if (renderer.isRenderable(view)) {
-                logger.debug("Possible direct {} template {} request", renderer.getConfigurationKey(), file);
-                return true;
-            }
-        }
-        return false;
-    }
-
     private void serveAsset(final HttpServletRequest req,
                             final HttpServletResponse resp,
                             final FilterChain chain) throws IOException, ServletException {
@@ -182,13 +161,4 @@ public class ServerPagesFilter implements Filter {
             }
         }
     }
-
-    /**
-     * Dummy view for class used to re-use dropwizard renderer selection logic.
-     */
-    private static class DummyView extends View {
-        DummyView(final String templateName) {
-            super(templateName);
-        }
-    }
 }
@@ -0,0 +1,146 @@
+package ru.vyarus.guicey.gsp.app.filter.redirect;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.views.common.View;
+import io.dropwizard.views.common.ViewRenderException;
+import io.dropwizard.views.common.ViewRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.gsp.app.rest.mapping.RestResourcesIndex;
+import ru.vyarus.guicey.gsp.views.template.ErrorTemplateView;
+import ru.vyarus.guicey.gsp.views.template.TemplateContext;
+import ru.vyarus.guicey.gsp.views.template.TemplateNotFoundException;
+import ru.vyarus.guicey.gsp.views.template.TemplateView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Renders direct templates (template file called directly, without custom resource) without redirection into rest.
+ * Before, such requests were processed by jersey (with all filters and listeners) only to fail with not found
+ * error, intercepted by {@link ru.vyarus.guicey.gsp.app.rest.support.DirectTemplateExceptionMapper}.
+ * <p>
+ * Direct rendering is used only for GET and HEAD requests when no rest resource could handle target path
+ * ({@link RestResourcesIndex}), so resources, mapped to template-like paths, are still called. Index is available
+ * only after jersey startup. Paths with encoded characters are always processed with jersey.
+ * <p>
+ * Error pages semantic is the same as for rest rendering: missing template leads to 404 error and rendering failure
+ * to 500 error, both redirected to error page (if configured). Error pages are rendered directly too (when error
+ * page is a direct template). Renderer selection, locale detection and rendering metric are the same as in
+ * dropwizard views.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class DirectTemplateRenderer {
+
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+
+    private final Logger logger = LoggerFactory.getLogger(DirectTemplateRenderer.class);
+
+    private final List<ViewRenderer> renderers;
+    private final MetricRegistry metrics;
+    // null before jersey startup
+    private RestResourcesIndex resources;
+
+    public DirectTemplateRenderer(final List<ViewRenderer> renderers, final MetricRegistry metrics) {
+        this.renderers = renderers;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param resources index of all registered rest resources
+     */
+    public void setRestResources(final RestResourcesIndex resources) {
+        this.resources = resources;
+    }
+
+    /**
+     * @param request  request
+     * @param restPath target rest path (relative to rest mapping)
+     * @return true if template could be rendered without rest, false if request must be processed by jersey
+     */
+    public boolean canRender(final HttpServletRequest request, final String restPath) {
+        final String method = request.getMethod();
+        return resources != null
+                && (GET.equals(method) || HEAD.equals(method))
+                // jersey decodes path before matching
+                && restPath.indexOf('%') < 0
+                && !resources.isMapped(restPath);
+    }
+
+    /**
+     * Render direct template into response (with error page redirection on errors).
+     *
+     * @param context  template context
+     * @param template template path (relative to rest prefix)
+     * @throws IOException on response write errors
+     */
+    public void render(final TemplateContext context, final String template) throws IOException {
+        final HttpServletResponse response = context.getResponse();
+        logger.debug("Direct template rendering (without rest): '{}'", template);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            final TemplateView view = ErrorRedirect.hasContextError()
+                    ? new ErrorTemplateView(template) : new TemplateView(template);
+            try (Timer.Context ignored = metrics.timer(name(view.getClass(), "rendering")).time()) {
+                findRenderer(view).render(view, detectLocale(context.getRequest()), out);
+            }
+        } catch (TemplateNotFoundException ex) {
+            onError(context, new NotFoundException("Template '" + template + "' not found", ex));
+            return;
+        } catch (Exception ex) {
+            logger.error("Error rendering direct template '" + template + "'", ex);
+            // either error will be redirected to error page or it's a error page rendering failure
+            onError(context, new WebApplicationException(ex));
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        // same as for rest rendering
+        response.setContentType(MediaType.TEXT_HTML);
+        response.setContentLength(out.size());
+        if (!HEAD.equals(context.getRequest().getMethod())) {
+            out.writeTo(response.getOutputStream());
+        }
+    }
+
+    private void onError(final TemplateContext context, final WebApplicationException ex) {
+        if (!context.redirectError(ex)) {
+            // no error page: error code returned as is
+            context.getResponse().setStatus(ex.getResponse().getStatus());
+        }
+    }
+
+    private ViewRenderer findRenderer(final View view) throws ViewRenderException {
+        for (ViewRenderer renderer : renderers) {
+            if (renderer.isRenderable(view)) {
+                return renderer;
+            }
+        }
+        throw new ViewRenderException("Unable to find a renderer for " + view.getTemplateName());
+    }
+
+    private Locale detectLocale(final HttpServletRequest request) {
+        final Enumeration<Locale> locales = request.getLocales();
+        while (locales.hasMoreElements()) {
+            final Locale locale = locales.nextElement();
+            // same as in dropwizard: wildcards are not supported by engines
+            if (!locale.toString().contains("*")) {
+                return locale;
+            }
+        }
+        return Locale.getDefault();
+    }
+}
@@ -0,0 +1,422 @@
+package ru.vyarus.guicey.gsp.app.filter.redirect;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.common.net.HttpHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.gsp.views.template.CachedTemplate;
+import ru.vyarus.guicey.gsp.views.template.TemplateContext;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendered pages cache for resources annotated with {@link CachedTemplate}. Cached pages are served directly from
+ * {@link TemplateRedirect} (without jersey).
+ * <p>
+ * Cache configuration is known only after resource method selection, so first request is always processed by jersey:
+ * response is wrapped to capture rendered output (capturing activated only when {@link CachedTemplate} annotation
+ * detected by {@link ru.vyarus.guicey.gsp.app.rest.support.TemplateAnnotationFilter}). After that, cache
+ * configuration is remembered for rest path and next requests could be resolved from cache.
+ * <p>
+ * Response headers (e.g. cache control or security headers) are cached with page and replayed, except cookies
+ * and headers, describing exact response (content length, encoding, date). Pages, cached per locale, declare
+ * {@code Vary: Accept-Language}.
+ * <p>
+ * Only query parameters, declared in {@link CachedTemplate#params()}, are used in cache key: other parameters are
+ * ignored (such requests are logged at debug level when served from cache). First rendered page is also
+ * sent with entity tag (when fits into response buffer).
+ * <p>
+ * Cache is bounded (least recently used pages are evicted). Each page expires according to configured ttl.
+ * Pages larger than {@link #MAX_PAGE_SIZE} are not cached.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class RenderedPageCache {
+
+    /**
+     * Default maximum count of cached pages.
+     */
+    public static final int DEFAULT_SIZE = 500;
+    /**
+     * Maximum size of cached page.
+     */
+    public static final int MAX_PAGE_SIZE = 1024 * 1024;
+
+    private static final String GET = "GET";
+    private static final String HEAD = "HEAD";
+    // lower cased names of headers, never replayed from cache
+    private static final Set<String> NOT_CACHED_HEADERS = ImmutableSet.of(
+            "set-cookie",
+            "date",
+            "etag",
+            "content-type",
+            "content-length",
+            "content-encoding",
+            "transfer-encoding",
+            "connection");
+
+    private final Logger logger = LoggerFactory.getLogger(RenderedPageCache.class);
+
+    // rest path --> cache configuration (remembered after first rendering)
+    private final Cache<String, CachedTemplate> policies;
+    // rest path + selected request attributes --> rendered page
+    private final Cache<String, RenderedPage> pages;
+
+    public RenderedPageCache(final int size) {
+        this.policies = CacheBuilder.newBuilder().maximumSize(size).build();
+        this.pages = CacheBuilder.newBuilder().maximumSize(size).build();
+    }
+
+    /**
+     * @return count of cached pages
+     */
+    public long size() {
+        return pages.size();
+    }
+
+    /**
+     * Clear all cached pages.
+     */
+    public void invalidate() {
+        pages.invalidateAll();
+    }
+
+    /**
+     * Serve cached page (if available).
+     *
+     * @param request  request
+     * @param response response
+     * @param restPath target rest path
+     * @return true if page served from cache, false if page must be rendered
+     * @throws IOException on write errors
+     */
+    public boolean serve(final HttpServletRequest request,
+                         final HttpServletResponse response,
+                         final String restPath) throws IOException {
+        final String method = request.getMethod();
+        if (!GET.equals(method) && !HEAD.equals(method)) {
+            return false;
+        }
+        final CachedTemplate policy = policies.getIfPresent(restPath);
+        if (policy == null) {
+            return false;
+        }
+        final String key = buildKey(restPath, policy, request);
+        final RenderedPage page = pages.getIfPresent(key);
+        if (page == null) {
+            return false;
+        }
+        if (page.isExpired()) {
+            pages.invalidate(key);
+            return false;
+        }
+        if (logger.isDebugEnabled()) {
+            final List<String> ignored = getIgnoredParams(request, policy);
+            if (ignored.isEmpty()) {
+                logger.debug("Serving cached page {}", key);
+            } else {
+                logger.debug("Serving cached page {} (query parameters {} are not a part of cache key)",
+                        key, ignored);
+            }
+        }
+        page.write(request, response);
+        return true;
+    }
+
+    /**
+     * Wraps response to capture rendered page (only if rendered resource would be annotated with
+     * {@link CachedTemplate}).
+     *
+     * @param request  request
+     * @param response response
+     * @param context  template context
+     * @return response to use for rendering
+     */
+    public HttpServletResponse capture(final HttpServletRequest request,
+                                       final HttpServletResponse response,
+                                       final TemplateContext context) {
+        return GET.equals(request.getMethod()) ? new CapturingResponse(response, context) : response;
+    }
+
+    /**
+     * Store rendered page in cache (if it was captured).
+     *
+     * @param request  request
+     * @param response response (returned from {@link #capture(HttpServletRequest, HttpServletResponse,
+     *                 TemplateContext)})
+     * @param restPath target rest path
+     */
+    public void store(final HttpServletRequest request, final HttpServletResponse response, final String restPath) {
+        if (!(response instanceof CapturingResponse)) {
+            return;
+        }
+        final CapturingResponse res = (CapturingResponse) response;
+        final byte[] content = res.complete();
+        // only successful responses are cached (error pages also rendered with the same response)
+        if (content == null || res.getStatus() != HttpServletResponse.SC_OK) {
+            return;
+        }
+        final CachedTemplate policy = res.context.getCachedTemplate();
+        final String key = buildKey(restPath, policy, request);
+        policies.put(restPath, policy);
+        pages.put(key, new RenderedPage(content, res.getContentType(), captureHeaders(res),
+                res.eTag != null ? res.eTag : eTag(content),
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(policy.ttl())));
+        logger.debug("Rendered page cached {} ({} bytes)", key, content.length);
+    }
+
+    private static String eTag(final byte[] content) {
+        return '"' + Hashing.murmur3_128().hashBytes(content).toString() + '"';
+    }
+
+    private String buildKey(final String restPath, final CachedTemplate policy, final HttpServletRequest request) {
+        final StringBuilder res = new StringBuilder(restPath);
+        for (String param : policy.params()) {
+            res.append('|').append(param).append('=');
+            final String[] values = request.getParameterValues(param);
+            if (values != null) {
+                for (String value : values) {
+                    res.append(value).append(',');
+                }
+            }
+        }
+        if (policy.locale()) {
+            res.append('|').append(request.getLocale().toLanguageTag());
+        }
+        return res.toString();
+    }
+
+    private List<String> getIgnoredParams(final HttpServletRequest request, final CachedTemplate policy) {
+        final List<String> res = new ArrayList<>();
+        if (request.getQueryString() != null) {
+            final List<String> params = Arrays.asList(policy.params());
+            for (String param : request.getParameterMap().keySet()) {
+                if (!params.contains(param)) {
+                    res.add(param);
+                }
+            }
+        }
+        return res;
+    }
+
+    private Map<String, List<String>> captureHeaders(final HttpServletResponse response) {
+        final Map<String, List<String>> res = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!NOT_CACHED_HEADERS.contains(name.toLowerCase(Locale.ENGLISH))) {
+                res.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Cached page.
+     */
+    private static class RenderedPage {
+        private final byte[] content;
+        private final String contentType;
+        private final Map<String, List<String>> headers;
+        private final String eTag;
+        private final long expires;
+
+        RenderedPage(final byte[] content,
+                     final String contentType,
+                     final Map<String, List<String>> headers,
+                     final String eTag,
+                     final long expires) {
+            this.content = content;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.eTag = eTag;
+            this.expires = expires;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expires;
+        }
+
+        void write(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+            headers.forEach((name, values) -> {
+                // override headers, possibly set by filters
+                response.setHeader(name, values.get(0));
+                for (int i = 1; i < values.size(); i++) {
+                    response.addHeader(name, values.get(i));
+                }
+            });
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(content.length);
+            if (!HEAD.equals(request.getMethod())) {
+                response.getOutputStream().write(content);
+            }
+        }
+
+        private boolean isNotModified(final String match) {
+            if (match != null) {
+                for (String tag : match.split(",")) {
+                    // tag could be marked as weak by proxy
+                    String value = tag.trim();
+                    value = value.startsWith("W/") ? value.substring(2) : value;
+                    if (eTag.equals(value) || "*".equals(value)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Response wrapper, capturing written output when rendered resource is annotated with {@link CachedTemplate}.
+     * Capturing decision is performed on output stream access (after resource method selection).
+     * <p>
+     * Content length is applied only after rendering (otherwise response would be committed with the last written
+     * byte) in order to send entity tag with the first rendered page too. Entity tag can't be sent when response
+     * was committed during rendering (page larger than response buffer).
+     */
+    private static class CapturingResponse extends HttpServletResponseWrapper {
+        private final TemplateContext context;
+        private CapturingStream stream;
+        private long contentLength = -1;
+        private String eTag;
+
+        CapturingResponse(final HttpServletResponse response, final TemplateContext context) {
+            super(response);
+            this.context = context;
+        }
+
+        @Override
+        public void setContentLength(final int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(final long len) {
+            if (stream == null && isCached()) {
+                contentLength = len;
+            } else {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (stream == null) {
+                if (!isCached()) {
+                    if (contentLength >= 0) {
+                        super.setContentLengthLong(contentLength);
+                        contentLength = -1;
+                    }
+                    return super.getOutputStream();
+                }
+                if (context.getCachedTemplate().locale()) {
+                    // page content depends on request locale
+                    addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+                }
+                stream = new CapturingStream(super.getOutputStream());
+            }
+            return stream;
+        }
+
+        byte[] complete() {
+            final byte[] res = stream == null || stream.overflow ? null : stream.buffer.toByteArray();
+            if (!isCommitted()) {
+                if (res != null) {
+                    eTag = eTag(res);
+                    setHeader(HttpHeaders.ETAG, eTag);
+                }
+                if (contentLength >= 0) {
+                    super.setContentLengthLong(contentLength);
+                }
+            }
+            return res;
+        }
+
+        private boolean isCached() {
+            return context.getCachedTemplate() != null && getStatus() == SC_OK;
+        }
+    }
+
+    /**
+     * Output stream, writing to original stream and buffer.
+     */
+    private static class CapturingStream extends ServletOutputStream {
+        private final ServletOutputStream out;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private boolean overflow;
+
+        CapturingStream(final ServletOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            if (!overflow) {
+                buffer.write(b);
+                checkSize();
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            if (!overflow) {
+                buffer.write(b, off, len);
+                checkSize();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return out.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            out.setWriteListener(writeListener);
+        }
+
+        private void checkSize() {
+            if (buffer.size() > MAX_PAGE_SIZE) {
+                // too large page: not cached
+                overflow = true;
+                buffer.reset();
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+import ru.vyarus.guicey.gsp.app.asset.servlet.AssetResolutionServlet;
 import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestLookup;
 import ru.vyarus.guicey.gsp.app.rest.support.TemplateAnnotationFilter;
 import ru.vyarus.guicey.gsp.app.util.TemplateRequest;
@@ -18,7 +19,9 @@ import java.io.IOException;
 /**
  * Performs redirection of template request into rest context. Note that even if no special rest
  * mapped for template, but request looks like direct file template, it would be rendered with the
- * {@link ru.vyarus.guicey.gsp.app.rest.support.DirectTemplateExceptionMapper}.
+ * {@link ru.vyarus.guicey.gsp.app.rest.support.DirectTemplateExceptionMapper}. When no rest resource could
+ * handle direct template path, template could be rendered with {@link DirectTemplateRenderer} (without rest, when
+ * enabled).
  * <p>
  * Rest resource convention: /[rest context]/[prefix]/[path from request], where
  * [prefix] is application registration name by default (but may be configured). Additional
@@ -30,6 +33,9 @@ import java.io.IOException;
  * <p>
  * Important: resources must use {@link ru.vyarus.guicey.gsp.views.template.TemplateView} as base template model class
  * in order to properly support {@link ru.vyarus.guicey.gsp.views.template.Template} annotation.
+ * <p>
+ * Pages of resources, annotated with {@link ru.vyarus.guicey.gsp.views.template.CachedTemplate}, are served
+ * directly from {@link RenderedPageCache} (without redirection into rest).
  *
  * @author Vyacheslav Rusakov
  * @since 03.12.2018
@@ -45,7 +51,12 @@ public class TemplateRedirect {
     private final String mapping;
     private final ViewRestLookup views;
     private final AssetLookup assets;
+    private final AssetResolutionServlet assetsServlet;
     private final ErrorRedirect errorRedirect;
+    // null when rendered pages cache disabled
+    private final RenderedPageCache pageCache;
+    // null when direct templates rendering without rest disabled
+    private final DirectTemplateRenderer directRenderer;
 
     // full rest path (applicationContextPath + rootPath)
     private String rootPath;
@@ -59,13 +70,19 @@ public class TemplateRedirect {
                             final String mapping,
                             final ViewRestLookup views,
                             final AssetLookup assets,
-                            final ErrorRedirect errorRedirect) {
+                            final AssetResolutionServlet assetsServlet,
+                            final ErrorRedirect errorRedirect,
+                            final RenderedPageCache pageCache,
+                            final DirectTemplateRenderer directRenderer) {
         this.restServlet = restServlet;
         this.app = app;
         this.mapping = mapping;
         this.assets = assets;
+        this.assetsServlet = assetsServlet;
         this.views = views;
         this.errorRedirect = errorRedirect;
+        this.pageCache = pageCache;
+        this.directRenderer = directRenderer;
     }
 
     /**
@@ -82,6 +99,8 @@ public class TemplateRedirect {
      * Redirect template request into rest resource. Jersey will select appropriate resource by path, or
      * thrown not found exception, received by
      * {@link ru.vyarus.guicey.gsp.app.rest.support.DirectTemplateExceptionMapper} (to render direct template instead).
+     * When enabled, direct templates, not handled by any rest resource, are rendered without redirection
+     * ({@link DirectTemplateRenderer}).
      *
      * @param request        template request
      * @param response       template response
@@ -95,30 +114,52 @@ public class TemplateRedirect {
                          final String page,
                          final boolean directTemplate) throws IOException, ServletException {
         // for root context will be empty
-        final String contextUrl = views.lookupSubContext(page);
-        final String restPrefix = views.lookupRestPrefix(contextUrl);
-        CONTEXT_TEMPLATE.set(new TemplateContext(app,
+        final ViewRestLookup.Mapping target = views.lookup(page);
+        final String contextUrl = target.getSubContext();
+        final String restPrefix = target.getRestPrefix();
+        final String path = target.buildRestPath(rootPath, page);
+        if (pageCache != null && pageCache.serve(request, response, path)) {
+            // pre-rendered page (resource annotated with @CachedTemplate)
+            return;
+        }
+        final TemplateContext context = new TemplateContext(app,
                 mapping,
                 contextUrl,
                 restPrefix,
                 directTemplate,
                 assets,
+                assetsServlet,
                 errorRedirect,
                 request,
-                response));
+                response);
+        CONTEXT_TEMPLATE.set(context);
         try {
-            final String path = PathUtils.path(rootPath, views.buildRestPath(contextUrl, page));
+            if (directTemplate && renderDirectly(request, target, page)) {
+                return;
+            }
             logger.debug("Redirecting '{}' to view path '{}' (app context: {}, rest mapping prefix: {})",
                     page, path, contextUrl.isEmpty() ? PathUtils.SLASH : contextUrl, PathUtils.SLASH + restPrefix);
             // this moment is especially important for admin apps where context could be radically different
+            final HttpServletResponse res = pageCache == null ? response
+                    : pageCache.capture(request, response, context);
             restServlet.service(
-                    new TemplateRequest(request, path, restContextPath, restServletMapping), response);
+                    new TemplateRequest(request, path, restContextPath, restServletMapping), res);
+            if (pageCache != null) {
+                pageCache.store(request, res, path);
+            }
 
         } finally {
             CONTEXT_TEMPLATE.remove();
         }
     }
 
+    /**
+     * @return direct templates renderer or null if direct rendering disabled
+     */
+    public DirectTemplateRenderer getDirectRenderer() {
+        return directRenderer;
+    }
+
     /**
      * @return custom error pages support
      */
@@ -126,6 +167,13 @@ public class TemplateRedirect {
         return errorRedirect;
     }
 
+    /**
+     * @return rendered pages cache or null if cache disabled
+     */
+    public RenderedPageCache getPageCache() {
+        return pageCache;
+    }
+
     /**
      * @return root rest mapping path
      */
@@ -133,6 +181,23 @@ public class TemplateRedirect {
         return rootPath;
     }
 
+    private boolean renderDirectly(final HttpServletRequest request,
+                                   final ViewRestLookup.Mapping target,
+                                   final String page) throws IOException {
+        if (directRenderer == null) {
+            return false;
+        }
+        // path relative to rest mapping (as jersey would see it)
+        final String restPath = target.buildRestPath(PathUtils.SLASH, page);
+        if (!directRenderer.canRender(request, restPath)) {
+            return false;
+        }
+        // template path relative to rest prefix (same as in DirectTemplateExceptionMapper)
+        final TemplateContext context = CONTEXT_TEMPLATE.get();
+        directRenderer.render(context, restPath.substring(context.getRestPrefix().length()));
+        return true;
+    }
+
     /**
      * @return thread bound template context or null
      */
@@ -0,0 +1,89 @@
+package ru.vyarus.guicey.gsp.app.rest.mapping;
+
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.uri.PathPattern;
+import org.glassfish.jersey.uri.PathPattern.RightHandPath;
+import org.glassfish.jersey.uri.PathTemplate;
+import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paths of all registered rest resources (not only template resources). Used to detect direct template calls
+ * which could not be handled by any resource and so could be rendered without redirection into rest
+ * (see {@link ru.vyarus.guicey.gsp.app.filter.redirect.DirectTemplateRenderer}).
+ * <p>
+ * Resource paths are compiled with jersey path patterns, so path parameters (and regexps) are matched the same way
+ * as in jersey. Sub resource locators match all paths under locator path. Index is built after jersey startup.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class RestResourcesIndex {
+
+    private final List<PathPattern> patterns = new ArrayList<>();
+
+    private RestResourcesIndex() {
+    }
+
+    /**
+     * Collects all registered rest resources paths.
+     *
+     * @param config dropwizard resources configuration object
+     * @return index of all resource paths
+     */
+    public static RestResourcesIndex build(final DropwizardResourceConfig config) {
+        final RestResourcesIndex index = new RestResourcesIndex();
+        for (Class<?> cls : config.getClasses()) {
+            index.register(PathUtils.SLASH, Resource.from(cls));
+        }
+        for (Object instance : config.getInstances()) {
+            index.register(PathUtils.SLASH, Resource.from(instance.getClass()));
+        }
+        // manually added resources
+        for (Resource resource : config.getResources()) {
+            index.register(PathUtils.SLASH, resource);
+        }
+        return index;
+    }
+
+    /**
+     * @param path rest path (relative to rest mapping, with leading slash)
+     * @return true if any rest resource could handle this path, false otherwise
+     */
+    public boolean isMapped(final String path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.match(path) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return count of registered resource paths
+     */
+    public int size() {
+        return patterns.size();
+    }
+
+    private void register(final String rootPath, final Resource resource) {
+        // null for not resource classes (providers)
+        if (resource == null) {
+            return;
+        }
+        final String path = PathUtils.path(rootPath, resource.getPath());
+        if (!resource.getResourceMethods().isEmpty()) {
+            patterns.add(new PathPattern(new PathTemplate(path), RightHandPath.capturingZeroSegments));
+        }
+        if (resource.getResourceLocator() != null) {
+            // any sub path could be handled by sub resource
+            patterns.add(new PathPattern(new PathTemplate(path), RightHandPath.capturingZeroOrMoreSegments));
+        }
+        for (Resource child : resource.getChildResources()) {
+            register(path, child);
+        }
+    }
+}
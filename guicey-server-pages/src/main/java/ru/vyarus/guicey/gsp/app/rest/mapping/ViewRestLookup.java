@@ -1,25 +1,35 @@
 package ru.vyarus.guicey.gsp.app.rest.mapping;
 
-import com.google.common.base.CharMatcher;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 
+import java.util.Arrays;
 import java.util.Map;
 
 /**
  * View rest endpoints are mapped with a prefix: so gsp application call /something could be remapped to
  * [rest]/[prefix]/something. Special prefixes could be mapped to some urls: e.g. /sub/url -&gt; prefix2 and so
  * when /sub/url/something will be called in gsp application it would redirect to [rest]/[prefix2]/something.
+ * <p>
+ * Sub urls are stored in prefix tree (by path segments), built once at startup, so mapping lookup cost depends only
+ * on called path length (not on the number of registered sub urls). Lookup result ({@link Mapping}) contains both
+ * sub context and rest prefix.
  *
  * @author Vyacheslav Rusakov
  * @since 02.12.2019
  */
 public class ViewRestLookup {
 
+    private static final char SLASH = '/';
+
     private final Map<String, String> prefixes;
+    private final Node root = new Node("");
 
     public ViewRestLookup(final Map<String, String> prefixes) {
         // assume immutable map, properly built: keys sorted from longest to smaller (root locations last),
         this.prefixes = prefixes;
+        for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+            root.add(entry.getKey()).mapping = new Mapping(entry.getKey(), entry.getValue());
+        }
     }
 
     /**
@@ -48,16 +58,40 @@ public class ViewRestLookup {
      * @return target sub context or empty for root context
      */
     public String lookupSubContext(final String path) {
-        final String relativePath = CharMatcher.is('/').trimLeadingFrom(path);
-        // value will always match to default root mapping if special url mapping not found
-        String res = null;
-        for (Map.Entry<String, String> entry : prefixes.entrySet()) {
-            final String url = entry.getKey();
-            if (relativePath.startsWith(url)) {
-                // cut off custom app mapping and add correct rest mapping part
-                res = url;
+        final Mapping res = lookup(path);
+        return res == null ? null : res.getSubContext();
+    }
+
+    /**
+     * Lookup target rest mapping (rest prefix may be registered to sub url): the deepest registered sub url,
+     * matching path start, or root (main) mapping.
+     *
+     * @param path gsp application called url (relative to application mapping root)
+     * @return target mapping (null only if root mapping not registered)
+     */
+    public Mapping lookup(final String path) {
+        Node node = root;
+        Mapping res = node.mapping;
+        final int length = path.length();
+        int start = 0;
+        // leading slashes ignored
+        while (start < length && path.charAt(start) == SLASH) {
+            start++;
+        }
+        while (start < length) {
+            final int end = path.indexOf(SLASH, start);
+            // sub url always ends with slash, so last segment (without slash) can't match
+            if (end < 0) {
                 break;
             }
+            node = node.child(path, start, end);
+            if (node == null) {
+                break;
+            }
+            if (node.mapping != null) {
+                res = node.mapping;
+            }
+            start = end + 1;
         }
         return res;
     }
@@ -81,4 +115,108 @@ public class ViewRestLookup {
         final String relativeUrl = path.startsWith(subContext) ? path.substring(subContext.length()) : path;
         return PathUtils.path(prefix, relativeUrl);
     }
+
+    /**
+     * Resolved rest mapping for sub url.
+     */
+    public static class Mapping {
+        private final String subContext;
+        private final String restPrefix;
+
+        public Mapping(final String subContext, final String restPrefix) {
+            this.subContext = subContext;
+            this.restPrefix = restPrefix;
+        }
+
+        /**
+         * @return sub context or empty for root context
+         */
+        public String getSubContext() {
+            return subContext;
+        }
+
+        /**
+         * @return target rest prefix
+         */
+        public String getRestPrefix() {
+            return restPrefix;
+        }
+
+        /**
+         * Builds target rest path: same as {@code PathUtils.path(rootPath, buildRestPath(subContext, path))}, but
+         * without intermediate strings.
+         *
+         * @param rootPath rest root path
+         * @param path     gsp application called url (relative to application mapping root)
+         * @return target rest path
+         */
+        public String buildRestPath(final String rootPath, final String path) {
+            // cut off custom app mapping and add correct rest mapping part
+            final int from = path.startsWith(subContext) ? subContext.length() : 0;
+            final StringBuilder res = new StringBuilder(
+                    rootPath.length() + restPrefix.length() + path.length() - from + 2);
+            append(res, rootPath, 0);
+            append(res, SLASH);
+            append(res, restPrefix, 0);
+            append(res, SLASH);
+            append(res, path, from);
+            return res.toString();
+        }
+
+        private void append(final StringBuilder res, final String value, final int from) {
+            for (int i = from; i < value.length(); i++) {
+                append(res, value.charAt(i));
+            }
+        }
+
+        private void append(final StringBuilder res, final char c) {
+            // duplicate slashes removed (as in PathUtils.path)
+            if (c != SLASH || res.length() == 0 || res.charAt(res.length() - 1) != SLASH) {
+                res.append(c);
+            }
+        }
+    }
+
+    /**
+     * Prefix tree node (sub url segment). Children are searched directly in the called path (without
+     * segment substring creation); the number of children on each level is assumed to be small.
+     */
+    private static class Node {
+        private static final Node[] NONE = new Node[0];
+
+        private final String name;
+        private Node[] children = NONE;
+        private Mapping mapping;
+
+        Node(final String name) {
+            this.name = name;
+        }
+
+        Node child(final String path, final int start, final int end) {
+            final int length = end - start;
+            for (Node child : children) {
+                if (child.name.length() == length && path.startsWith(child.name, start)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        Node add(final String url) {
+            Node node = this;
+            for (String segment : url.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                Node child = node.child(segment, 0, segment.length());
+                if (child == null) {
+                    child = new Node(segment);
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.children[node.children.length - 1] = child;
+                }
+                node = child;
+            }
+            return node;
+        }
+    }
 }
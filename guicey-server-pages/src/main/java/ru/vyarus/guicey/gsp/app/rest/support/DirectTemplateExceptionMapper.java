@@ -26,6 +26,10 @@ import javax.ws.rs.ext.Provider;
  * <p>
  * Handler is applied to all rest, but as its an extended mapper, it will not influence normal rest calls.
  * <p>
+ * When direct rendering is enabled, most direct templates are rendered without rest at all
+ * ({@link ru.vyarus.guicey.gsp.app.filter.redirect.DirectTemplateRenderer}), so mapper is used only for
+ * non GET requests and paths partially matching rest resources.
+ * <p>
  * NOTE: application may declare different exception mapper for {@link NotFoundException} and so it may
  * override this mapper. It is highly unlikely, but still could happen.
  * <p>
@@ -0,0 +1,45 @@
+package ru.vyarus.guicey.gsp.app.rest.support;
+
+import org.glassfish.jersey.message.internal.CommittingOutputStream;
+import ru.vyarus.guicey.gsp.views.template.TemplateView;
+
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+
+/**
+ * Disables jersey response buffering for {@link ru.vyarus.guicey.gsp.views.template.StreamingTemplate} pages.
+ * Jersey buffers response (up to 8kb by default) in order to set content length and ignores flush before buffer
+ * overflow. Without buffering, flush after document head (see {@link StreamingTemplateWriter}) commits response
+ * and sends head to the client immediately (response is sent chunked).
+ * <p>
+ * Executed before entity coders (priority lower than {@link Priorities#ENTITY_CODER}) to access jersey stream
+ * directly (if stream was already wrapped by encoder, buffering remains and head would be sent only after
+ * buffer overflow).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Provider
+@Singleton
+@Priority(Priorities.ENTITY_CODER - 100)
+public class StreamingTemplateInterceptor implements WriterInterceptor {
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        if (context.getEntity() instanceof TemplateView
+                && context.getOutputStream() instanceof CommittingOutputStream
+                && StreamingTemplateWriter.isStreamingRender()) {
+            final CommittingOutputStream out = (CommittingOutputStream) context.getOutputStream();
+            if (!out.isCommitted()) {
+                // direct write
+                out.enableBuffering(0);
+            }
+        }
+        context.proceed();
+    }
+}
@@ -0,0 +1,243 @@
+package ru.vyarus.guicey.gsp.app.rest.support;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.core.setup.Environment;
+import io.dropwizard.views.common.View;
+import io.dropwizard.views.common.ViewRenderException;
+import io.dropwizard.views.common.ViewRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.SharedConfigurationState;
+import ru.vyarus.guicey.gsp.ServerPagesBundle;
+import ru.vyarus.guicey.gsp.app.GlobalConfig;
+import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
+import ru.vyarus.guicey.gsp.app.filter.redirect.TemplateRedirect;
+import ru.vyarus.guicey.gsp.views.template.TemplateContext;
+import ru.vyarus.guicey.gsp.views.template.TemplateView;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Streaming renderer for {@link ru.vyarus.guicey.gsp.views.template.StreamingTemplate} annotated resources.
+ * Dropwizard views writer ({@code ViewMessageBodyWriter}) renders template into memory buffer. This writer
+ * renders template directly into response stream: output is held until document head end and then flushed
+ * (see {@link HeadFlushOutputStream}).
+ * <p>
+ * Writer is more specific ({@link TemplateView} instead of {@link View}) and so has priority over dropwizard
+ * writer, but applies only to streaming templates (all other views are rendered by dropwizard writer).
+ * <p>
+ * Jersey buffers response to calculate content length and so flush would not send anything until the
+ * buffer is full: buffering is disabled for streaming templates by {@link StreamingTemplateInterceptor}.
+ * <p>
+ * Renderer selection, locale detection and rendering metric are the same as in dropwizard writer.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Provider
+@Singleton
+// same as dropwizard views writer
+@Produces({MediaType.TEXT_HTML, MediaType.APPLICATION_XHTML_XML})
+public class StreamingTemplateWriter implements MessageBodyWriter<TemplateView> {
+    private final Logger logger = LoggerFactory.getLogger(StreamingTemplateWriter.class);
+
+    private final List<ViewRenderer> renderers;
+    private final MetricRegistry metrics;
+
+    @Inject
+    private javax.inject.Provider<HttpHeaders> headers;
+
+    @Inject
+    public StreamingTemplateWriter(final Environment environment) {
+        final GlobalConfig config = SharedConfigurationState.lookupOrFail(environment, ServerPagesBundle.class,
+                "%s bundle not registered", ServerPagesBundle.class.getSimpleName());
+        this.renderers = config.getRenderers();
+        this.metrics = environment.metrics();
+    }
+
+    @Override
+    public boolean isWriteable(final Class<?> type,
+                               final Type genericType,
+                               final Annotation[] annotations,
+                               final MediaType mediaType) {
+        return TemplateView.class.isAssignableFrom(type) && isStreamingRender();
+    }
+
+    @Override
+    public void writeTo(final TemplateView view,
+                        final Class<?> type,
+                        final Type genericType,
+                        final Annotation[] annotations,
+                        final MediaType mediaType,
+                        final MultivaluedMap<String, Object> httpHeaders,
+                        final OutputStream entityStream) throws IOException {
+        final HeadFlushOutputStream out = new HeadFlushOutputStream(entityStream);
+        try (Timer.Context ignored = metrics.timer(name(view.getClass(), "rendering")).time()) {
+            findRenderer(view).render(view, detectLocale(), out);
+            out.finish();
+        } catch (ViewRenderException ex) {
+            if (out.isHeadFlushed()) {
+                // response committed: error page could not be shown
+                logger.error("Streaming template '{}' rendering failed after head flush: incomplete page sent",
+                        view.getTemplateName());
+            }
+            throw new WebApplicationException(ex);
+        }
+    }
+
+    /**
+     * @return true if current template must be rendered with streaming
+     */
+    static boolean isStreamingRender() {
+        final TemplateContext context = TemplateRedirect.templateContext();
+        // error pages are never streamed (error page rendering failure must preserve original error)
+        return context != null && context.isStreamingRender() && !ErrorRedirect.hasContextError();
+    }
+
+    private ViewRenderer findRenderer(final View view) throws ViewRenderException {
+        for (ViewRenderer renderer : renderers) {
+            if (renderer.isRenderable(view)) {
+                return renderer;
+            }
+        }
+        throw new ViewRenderException("Unable to find a renderer for " + view.getTemplateName());
+    }
+
+    private Locale detectLocale() {
+        final List<Locale> languages;
+        try {
+            languages = headers.get().getAcceptableLanguages();
+        } catch (RuntimeException ex) {
+            throw new WebApplicationException("Unable to parse Accept-Language header", ex,
+                    Response.Status.BAD_REQUEST);
+        }
+        for (Locale locale : languages) {
+            // same as in dropwizard: wildcards are not supported by engines
+            if (!locale.toString().contains("*")) {
+                return locale;
+            }
+        }
+        return Locale.getDefault();
+    }
+
+    /**
+     * Output stream, holding rendered output until document head end ({@code </head>}, case-insensitive).
+     * After that all held content is written and flushed (response committed) and the rest of output goes
+     * directly to response stream. Explicit flush (from template) also commits response.
+     * <p>
+     * Head is also flushed when held content exceeds {@link #MAX_HOLD} (page without head or too large head).
+     * <p>
+     * Held content is dropped on rendering error so response remains uncommitted and error page could be
+     * rendered instead.
+     */
+    private static class HeadFlushOutputStream extends OutputStream {
+        private static final int MAX_HOLD = 8 * 1024;
+        private static final byte[] HEAD_END = "</head>".getBytes(StandardCharsets.US_ASCII);
+        private static final int LOWER_CASE = 0x20;
+
+        private final OutputStream out;
+        private ByteArrayOutputStream held = new ByteArrayOutputStream();
+        // matched head end characters
+        private int matched;
+
+        HeadFlushOutputStream(final OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (isHeadFlushed()) {
+                out.write(b);
+            } else {
+                held.write(b);
+                if (match(b) || held.size() >= MAX_HOLD) {
+                    flushHead();
+                }
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (isHeadFlushed()) {
+                out.write(b, off, len);
+                return;
+            }
+            held.write(b, off, len);
+            boolean found = false;
+            for (int i = off; i < off + len && !found; i++) {
+                found = match(b[i]);
+            }
+            if (found || held.size() >= MAX_HOLD) {
+                flushHead();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (isHeadFlushed()) {
+                out.flush();
+            } else {
+                flushHead();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // entity stream is closed by jersey
+            finish();
+        }
+
+        boolean isHeadFlushed() {
+            return held == null;
+        }
+
+        void flushHead() throws IOException {
+            if (!isHeadFlushed()) {
+                finish();
+                out.flush();
+            }
+        }
+
+        /**
+         * Write held content without flush.
+         *
+         * @throws IOException on write error
+         */
+        void finish() throws IOException {
+            if (!isHeadFlushed()) {
+                held.writeTo(out);
+                held = null;
+            }
+        }
+
+        private boolean match(final int b) {
+            final int c = b >= 'A' && b <= 'Z' ? b | LOWER_CASE : b;
+            if (c == HEAD_END[matched]) {
+                matched++;
+            } else {
+                matched = c == HEAD_END[0] ? 1 : 0;
+            }
+            return matched == HEAD_END.length;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package ru.vyarus.guicey.gsp.app.rest.support;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.gsp.views.template.CachedTemplate;
 import ru.vyarus.guicey.gsp.views.template.ManualErrorHandling;
+import ru.vyarus.guicey.gsp.views.template.StreamingTemplate;
 import ru.vyarus.guicey.gsp.views.template.Template;
 import ru.vyarus.guicey.gsp.views.template.TemplateContext;
 
@@ -19,6 +21,9 @@ import java.lang.reflect.Method;
  * Request filter for {@link Template} annotated resources read configured template path (to be used in model).
  * Record matched resource class so relative templates could be checked relative to class even
  * when template path is specified directly into model.
+ * <p>
+ * Also detects {@link ManualErrorHandling}, {@link CachedTemplate} and {@link StreamingTemplate} annotations
+ * (on resource method or class).
  *
  * @author Vyacheslav Rusakov
  * @since 03.12.2018
@@ -50,6 +55,14 @@ public class TemplateAnnotationFilter implements ContainerRequestFilter {
             final Method method = resourceInfo.getResourceMethod();
             context.setManualErrorHandling(resourceClass.isAnnotationPresent(ManualErrorHandling.class)
                     || (method != null && method.isAnnotationPresent(ManualErrorHandling.class)));
+            // method annotation overrides resource annotation
+            CachedTemplate cached = method != null ? method.getAnnotation(CachedTemplate.class) : null;
+            if (cached == null) {
+                cached = resourceClass.getAnnotation(CachedTemplate.class);
+            }
+            context.setCachedTemplate(cached);
+            context.setStreamingRender(resourceClass.isAnnotationPresent(StreamingTemplate.class)
+                    || (method != null && method.isAnnotationPresent(StreamingTemplate.class)));
         }
     }
 }
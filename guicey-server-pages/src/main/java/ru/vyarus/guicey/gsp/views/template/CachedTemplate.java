@@ -0,0 +1,48 @@
+package ru.vyarus.guicey.gsp.views.template;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Enables rendered output cache for {@link Template} resource method (or all methods of annotated resource).
+ * Intended for pages, rendering the same output for all (anonymous) users (e.g. landing, docs or legal pages).
+ * <p>
+ * First call is processed as usual (with rendering) and rendered page is remembered. Next calls to the same
+ * path are served directly from cache, without jersey (resource method is not called!). Only successful
+ * GET responses are cached.
+ * <p>
+ * Cache key is rest path (including path parameters), configured query parameters and (optionally) request locale.
+ * Cached pages are served with entity tag (so browser could re-validate page with 304 response).
+ * <p>
+ * Pay attention that any other request-specific information (cookies, headers, session, security) is not
+ * considered: do not use cache for pages rendering user-specific data.
+ * <p>
+ * Maximum cache size is configured for application with
+ * {@link ru.vyarus.guicey.gsp.app.ServerPagesAppBundle.AppBuilder#renderedPagesCacheSize(int)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface CachedTemplate {
+
+    /**
+     * @return time (in seconds) to keep rendered page in cache
+     */
+    long ttl() default 300;
+
+    /**
+     * @return query parameters, affecting rendering (included into cache key)
+     */
+    String[] params() default {};
+
+    /**
+     * @return true if page rendering depends on request locale (include locale into cache key)
+     */
+    boolean locale() default false;
+}
@@ -0,0 +1,34 @@
+package ru.vyarus.guicey.gsp.views.template;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Enables streaming rendering for {@link Template} resource method (or all methods of annotated resource).
+ * By default, dropwizard views render the entire template into memory buffer and only then write it to response.
+ * For large pages this delays the first byte until rendering completion.
+ * <p>
+ * With streaming, template is rendered directly into response: output is held only until document head end
+ * ({@code </head>}) and then flushed to the client, so browser could start loading styles and scripts while
+ * the rest of the page is rendering. Further output is written as soon as template engine produces it.
+ * Explicit template flush (e.g. freemarker {@code <#flush>}) also sends all rendered content to the client.
+ * <p>
+ * Errors before head flush are handled as usual (error page rendered instead of template). Errors after
+ * head flush could not be redirected to error page (response is already committed): client receives
+ * incomplete page. Use streaming only for pages where rendering errors are unlikely after the head
+ * (e.g. all data loaded in resource method).
+ * <p>
+ * Error pages are never streamed.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @see ru.vyarus.guicey.gsp.app.rest.support.StreamingTemplateWriter
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface StreamingTemplate {
+}
@@ -9,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
 import ru.vyarus.guicey.gsp.app.asset.AssetLookup;
+import ru.vyarus.guicey.gsp.app.asset.servlet.AssetResolutionServlet;
 import ru.vyarus.guicey.gsp.app.filter.redirect.ErrorRedirect;
 import ru.vyarus.guicey.gsp.app.filter.redirect.TemplateRedirect;
 import ru.vyarus.guicey.gsp.app.util.ResourceLookup;
@@ -44,12 +45,15 @@ public class TemplateContext {
     // called path looks like direct template call
     private final boolean directTemplate;
     private final AssetLookup assets;
+    private final AssetResolutionServlet assetsServlet;
     private final ErrorRedirect errorRedirect;
     private final HttpServletRequest request;
     private final HttpServletResponse response;
     private Class resourceClass;
     private String annotationTemplate;
     private boolean manualErrorHandling;
+    private CachedTemplate cachedTemplate;
+    private boolean streamingRender;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     public TemplateContext(final String appName,
@@ -58,6 +62,7 @@ public class TemplateContext {
                            final String restPrefix,
                            final boolean directTemplate,
                            final AssetLookup assets,
+                           final AssetResolutionServlet assetsServlet,
                            final ErrorRedirect errorRedirect,
                            final HttpServletRequest request,
                            final HttpServletResponse response) {
@@ -67,6 +72,7 @@ public class TemplateContext {
         this.restPrefix = restPrefix;
         this.directTemplate = directTemplate;
         this.assets = assets;
+        this.assetsServlet = assetsServlet;
         this.errorRedirect = errorRedirect;
         this.request = request;
         this.response = response;
@@ -196,12 +202,50 @@ public class TemplateContext {
         this.manualErrorHandling = manualErrors;
     }
 
+    /**
+     * Enables rendered page caching. Set by {@link ru.vyarus.guicey.gsp.app.rest.support.TemplateAnnotationFilter}
+     * when resource method (or resource) is annotated with {@link CachedTemplate}.
+     *
+     * @param cachedTemplate cache configuration or null to disable caching
+     */
+    public void setCachedTemplate(final CachedTemplate cachedTemplate) {
+        this.cachedTemplate = cachedTemplate;
+    }
+
+    /**
+     * @return rendered page cache configuration or null if page must not be cached
+     */
+    public CachedTemplate getCachedTemplate() {
+        return cachedTemplate;
+    }
+
+    /**
+     * Enables streaming template rendering. Set by
+     * {@link ru.vyarus.guicey.gsp.app.rest.support.TemplateAnnotationFilter} when resource method (or resource)
+     * is annotated with {@link StreamingTemplate}.
+     *
+     * @param streamingRender true to render template directly into response
+     */
+    public void setStreamingRender(final boolean streamingRender) {
+        this.streamingRender = streamingRender;
+    }
+
+    /**
+     * @return true if template must be rendered directly into response (with early head flush)
+     */
+    public boolean isStreamingRender() {
+        return streamingRender;
+    }
+
     /**
      * Lookup relative template path either relative to resource class (if annotated with {@link Template} or
      * in one of pre-configured classpath locations. If passed template is null it will be
      * taken from {@link Template} annotation from resource class.
      * <p>
      * When provided template path is absolute - it is searched by direct location only.
+     * <p>
+     * Resolved path is cached (in context of resource class and rest sub context) so each template is searched
+     * just once (see {@link AssetLookup#getResolvedTemplate(Class, String, String)}).
      *
      * @param template template path or null
      * @return absolute path to template
@@ -218,30 +262,13 @@ public class TemplateContext {
         Preconditions.checkNotNull(path,
                 "Template name not specified neither directly in model nor in @Template annotation");
 
-        // search relative path relative to resource class
-        if (!path.startsWith(PathUtils.SLASH) && resourceClass != null) {
-            final String classRelativePath = PathUtils.path(PathUtils.packagePath(resourceClass),
-                    CharMatcher.is('/').trimLeadingFrom(path));
-            if (assets.load(classRelativePath) != null) {
-                logger.debug("Relative template '{}' found relative to {} class: '{}'",
-                        template, resourceClass.getSimpleName(), path);
-                // indicate absolute path
-                path = PathUtils.leadingSlash(classRelativePath);
-            }
+        // resolution result is the same for all requests (in the same context)
+        String res = assets.getResolvedTemplate(resourceClass, restSubContext, path);
+        if (res == null) {
+            res = resolveTemplatePath(path);
+            assets.cacheResolvedTemplate(resourceClass, restSubContext, path, res);
         }
-
-        // search in configured locations
-        if (!path.startsWith(PathUtils.SLASH)) {
-            // recover original calling path to properly resolve asset (inside sub context mapped view)
-            path = PathUtils.path(restSubContext, path);
-            // search in configured folders
-            path = PathUtils.leadingSlash(ResourceLookup.lookupOrFail(path, assets));
-            logger.debug("Relative template '{}' resolved to '{}'", template, path);
-        }
-
-        // check direct absolute path
-        ResourceLookup.existsOrFail(path, assets);
-        return path;
+        return res;
     }
 
     /**
@@ -263,6 +290,20 @@ public class TemplateContext {
         return assets.load(path);
     }
 
+    /**
+     * Builds asset url for templates. When fingerprinted assets enabled
+     * ({@link ru.vyarus.guicey.gsp.app.ServerPagesAppBundle.AppBuilder#fingerprintedAssets()}) url would contain asset
+     * content hash (e.g. "/app/css/style.3f2a9c0d1e.css") and so could be cached by browser forever. Otherwise,
+     * simple asset url returned.
+     *
+     * @param path asset path relative to application root (e.g. "css/style.css")
+     * @return absolute asset url
+     */
+    public String getAssetUrl(final String path) {
+        final String asset = CharMatcher.is('/').trimLeadingFrom(path);
+        return PathUtils.path(rootUrl, assetsServlet == null ? asset : assetsServlet.getFingerprintedPath(asset));
+    }
+
     /**
      * Perform redirection to error page (if registered) or handle SPA route (if 404 response and SPA support enabled).
      * <p>
@@ -285,6 +326,34 @@ public class TemplateContext {
         return !manualErrorHandling && errorRedirect.redirect(getRequest(), getResponse(), wrap(ex));
     }
 
+    private String resolveTemplatePath(final String template) {
+        String path = template;
+        // search relative path relative to resource class
+        if (!path.startsWith(PathUtils.SLASH) && resourceClass != null) {
+            final String classRelativePath = PathUtils.path(PathUtils.packagePath(resourceClass),
+                    CharMatcher.is('/').trimLeadingFrom(path));
+            if (assets.load(classRelativePath) != null) {
+                logger.debug("Relative template '{}' found relative to {} class: '{}'",
+                        template, resourceClass.getSimpleName(), path);
+                // indicate absolute path
+                path = PathUtils.leadingSlash(classRelativePath);
+            }
+        }
+
+        // search in configured locations
+        if (!path.startsWith(PathUtils.SLASH)) {
+            // recover original calling path to properly resolve asset (inside sub context mapped view)
+            path = PathUtils.path(restSubContext, path);
+            // search in configured folders
+            path = PathUtils.leadingSlash(ResourceLookup.lookupOrFail(path, assets));
+            logger.debug("Relative template '{}' resolved to '{}'", template, path);
+        }
+
+        // check direct absolute path
+        ResourceLookup.existsOrFail(path, assets);
+        return path;
+    }
+
     private WebApplicationException wrap(final Throwable exception) {
         Throwable cause = exception;
         // compensate MappableException
@@ -64,4 +64,16 @@ public class TemplateView extends View {
         return context;
     }
 
+    /**
+     * Template helper for assets urls: {@code ${assetUrl('css/style.css')}} (freemarker syntax).
+     * Generates fingerprinted urls when fingerprinted assets enabled for application.
+     *
+     * @param path asset path relative to application root
+     * @return absolute asset url
+     * @see TemplateContext#getAssetUrl(String)
+     */
+    public String assetUrl(final String path) {
+        return context.getAssetUrl(path);
+    }
+
 }
@@ -0,0 +1,68 @@
+package ru.vyarus.guicey.gsp
+
+import io.dropwizard.views.freemarker.FreemarkerViewRenderer
+import io.dropwizard.views.mustache.MustacheViewRenderer
+import ru.vyarus.guicey.gsp.app.filter.FileRequestClassifier
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class FileRequestClassifierTest extends Specification {
+
+    @Unroll
+    def "Check file detection without regex (#path)"() {
+
+        setup:
+        FileRequestClassifier classifier = new FileRequestClassifier(ServerPagesBundle.FILE_REQUEST_PATTERN, [])
+
+        expect: "the same result as with default regex"
+        classifier.findFile(path) == file
+        classifier.findFile(path) == findByRegex(path)
+
+        where:
+        path             | file
+        '/app/style.css' | 'style.css'
+        'template.ftl'   | 'template.ftl'
+        '/a.b/c.d.js'    | 'c.d.js'
+        '/app/'          | null
+        '/app/.htaccess' | null
+        '/app/file.'     | null
+        '/app/file.j-s'  | null
+        '/app/path'      | null
+        ''               | null
+    }
+
+    def "Check template detection"() {
+
+        setup:
+        FileRequestClassifier classifier = new FileRequestClassifier(ServerPagesBundle.FILE_REQUEST_PATTERN,
+                [new FreemarkerViewRenderer(), new MustacheViewRenderer()])
+
+        expect: "templates detected by extension"
+        classifier.isTemplate('template.ftl')
+        classifier.isTemplate('template.mustache')
+        !classifier.isTemplate('style.css')
+        !classifier.isTemplate('data.custom')
+        !classifier.isTemplate('data.custom')
+    }
+
+    def "Check custom pattern"() {
+
+        setup:
+        FileRequestClassifier classifier = new FileRequestClassifier(
+                "(?:^|/)([^/]+\\.(?:css|ftl))(?:\\?.+)?\$", [new FreemarkerViewRenderer()])
+
+        expect: "pattern applied"
+        classifier.findFile('/app/style.css') == 'style.css'
+        classifier.findFile('/app/index.html') == null
+        classifier.isTemplate(classifier.findFile('/app/template.ftl'))
+    }
+
+    private String findByRegex(String path) {
+        def matcher = path =~ ServerPagesBundle.FILE_REQUEST_PATTERN
+        return matcher.find() ? matcher.group(1) : null
+    }
+}
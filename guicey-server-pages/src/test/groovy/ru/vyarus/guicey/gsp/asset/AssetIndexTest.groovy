@@ -0,0 +1,80 @@
+package ru.vyarus.guicey.gsp.asset
+
+import com.google.common.collect.ImmutableMultimap
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup
+import ru.vyarus.guicey.gsp.app.asset.AssetSources
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AssetIndexTest extends Specification {
+
+    @Shared
+    AssetLookup plain = create(false)
+    @Shared
+    AssetLookup indexed = create(true)
+
+    def "Check index built"() {
+
+        expect: "all resources indexed (including webjars jar)"
+        indexed.index != null
+        indexed.index.size() > 10
+        plain.index == null
+    }
+
+    @Unroll
+    def "Check indexed lookup for #path"() {
+
+        expect: "same location resolved"
+        indexed.lookupPath(path) == plain.lookupPath(path)
+        indexed.lookupUrl(path) == plain.lookupUrl(path)
+        indexed.getMatchingLocations(path) == plain.getMatchingLocations(path)
+
+        where:
+        path                                 | _
+        'index.html'                         | _
+        '/app/index.html'                    | _
+        'css/style.css'                      | _
+        'sample/ext.ftl'                     | _
+        'sample/index.html'                  | _
+        'jquery/3.4.1/dist/jquery.min.js'    | _
+        'missing.txt'                        | _
+        'sample/missing.txt'                 | _
+        'sub/'                               | _
+    }
+
+    @Unroll
+    def "Check indexed load for #path"() {
+
+        expect: "same resource loaded"
+        indexed.load(path) == plain.load(path)
+
+        where:
+        path                                                           | _
+        '/app/index.html'                                              | _
+        '/ext/ext.ftl'                                                 | _
+        'META-INF/resources/webjars/jquery/3.4.1/dist/jquery.min.js'  | _
+        '/app/missing.html'                                            | _
+        'template.ftl'                                                 | _
+    }
+
+    private static AssetLookup create(boolean index) {
+        // the same order as in application (see ServerPagesApp.collectAssets)
+        ImmutableMultimap<String, String> locations = ImmutableMultimap.<String, String> builder()
+                .orderKeysBy(Comparator.comparing { String it -> it.length() }.reversed())
+                .put('sample/', 'ext/')
+                .putAll('', 'META-INF/resources/webjars/', 'app/')
+                .build()
+        ImmutableMultimap<String, ClassLoader> loaders = ImmutableMultimap.<String, ClassLoader> builder()
+                .orderKeysBy(Comparator.comparing { String it -> it.length() }.reversed())
+                .put('ext/', AssetSources.DEFAULT_LOADER)
+                .put('app/', AssetSources.DEFAULT_LOADER)
+                .put('META-INF/resources/webjars/', AssetSources.DEFAULT_LOADER)
+                .build()
+        return new AssetLookup('app/', locations, loaders, 0, index)
+    }
+}
@@ -0,0 +1,163 @@
+package ru.vyarus.guicey.gsp.asset
+
+import com.google.common.collect.ImmutableMultimap
+import ru.vyarus.guicey.gsp.app.asset.AssetLookup
+import ru.vyarus.guicey.gsp.views.template.TemplateNotFoundException
+import ru.vyarus.guicey.gsp.views.template.TemplateContext
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AssetLookupCacheTest extends Specification {
+
+    def "Check resolved assets cached"() {
+
+        setup:
+        CountingLoader loader = new CountingLoader()
+        AssetLookup lookup = create(loader, AssetLookup.DEFAULT_CACHE_SIZE)
+
+        when: "resolving asset multiple times"
+        def res = lookup.lookupPath('index.html')
+        lookup.lookupPath('index.html')
+        lookup.lookupPath('index.html')
+        then: "classpath searched once"
+        res == '/app/index.html'
+        loader.calls == 1
+
+        when: "resolving missed asset multiple times"
+        loader.calls = 0
+        res = lookup.lookupPath('missed.html')
+        lookup.lookupPath('missed.html')
+        then: "miss cached"
+        res == null
+        loader.calls == 1
+
+        when: "loading resolved path multiple times"
+        loader.calls = 0
+        URL url = lookup.load('/app/index.html')
+        lookup.load('/app/index.html')
+        then: "classpath searched once"
+        url != null
+        loader.calls == 1
+
+        when: "cache invalidated"
+        loader.calls = 0
+        lookup.invalidateCache()
+        lookup.lookupPath('index.html')
+        then: "classpath searched again"
+        loader.calls == 1
+    }
+
+    def "Check resolved templates cached"() {
+
+        setup:
+        CountingLoader loader = new CountingLoader()
+        AssetLookup lookup = create(loader, AssetLookup.DEFAULT_CACHE_SIZE)
+        TemplateContext context = new TemplateContext('app', '/', '', '', false,
+                lookup, null, null, null, null)
+
+        when: "resolving template"
+        def res = context.lookupTemplatePath('template.ftl')
+        then: "resolved path cached"
+        res == '/app/template.ftl'
+        loader.calls > 0
+        lookup.getResolvedTemplate(null, '', 'template.ftl') == res
+        lookup.getResolvedTemplate(AssetLookupCacheTest, '', 'template.ftl') == null
+
+        when: "resolving template again"
+        loader.calls = 0
+        res = context.lookupTemplatePath('template.ftl')
+        then: "classpath not searched"
+        res == '/app/template.ftl'
+        loader.calls == 0
+
+        when: "resolving not existing template"
+        context.lookupTemplatePath('missing.ftl')
+        then: "not found template not cached"
+        thrown(TemplateNotFoundException)
+        lookup.getResolvedTemplate(null, '', 'missing.ftl') == null
+
+        when: "cache invalidated"
+        lookup.invalidateCache()
+        then: "resolved templates removed"
+        lookup.getResolvedTemplate(null, '', 'template.ftl') == null
+    }
+
+    def "Check context loader resolution not cached"() {
+
+        setup:
+        File dir = Files.createTempDirectory('ctx').toFile()
+        new File(dir, 'app/ctx').mkdirs()
+        new File(dir, 'app/ctx/file.txt').text = 'ctx'
+        AssetLookup lookup = create(new CountingLoader(), AssetLookup.DEFAULT_CACHE_SIZE)
+        ClassLoader original = Thread.currentThread().contextClassLoader
+
+        when: "loading resource, available only in context loader"
+        Thread.currentThread().contextClassLoader = new URLClassLoader([dir.toURI().toURL()] as URL[],
+                (ClassLoader) null)
+        URL url = lookup.load('/app/ctx/file.txt')
+        then: "found"
+        url != null
+
+        when: "loading with different context loader"
+        Thread.currentThread().contextClassLoader = new URLClassLoader([] as URL[], (ClassLoader) null)
+        url = lookup.load('/app/ctx/file.txt')
+        then: "context loader result not cached"
+        url == null
+
+        when: "loading missed resource multiple times"
+        CountingLoader context = new CountingLoader()
+        Thread.currentThread().contextClassLoader = context
+        CountingLoader loader = new CountingLoader()
+        lookup = create(loader, AssetLookup.DEFAULT_CACHE_SIZE)
+        url = lookup.load('/app/missing.txt')
+        lookup.load('/app/missing.txt')
+        then: "miss cached after all sources checked"
+        url == null
+        loader.calls == 1
+        context.calls == 1
+
+        cleanup:
+        Thread.currentThread().contextClassLoader = original
+        dir.deleteDir()
+    }
+
+    def "Check cache disabled"() {
+
+        setup:
+        CountingLoader loader = new CountingLoader()
+        AssetLookup lookup = create(loader, 0)
+
+        when: "resolving asset multiple times"
+        lookup.lookupPath('index.html')
+        lookup.lookupPath('index.html')
+        then: "classpath searched each time"
+        !lookup.cacheEnabled
+        loader.calls == 2
+    }
+
+    private AssetLookup create(ClassLoader loader, int cacheSize) {
+        return new AssetLookup('app/',
+                ImmutableMultimap.of('', 'app/'),
+                ImmutableMultimap.of('app/', loader),
+                cacheSize, false)
+    }
+
+    static class CountingLoader extends ClassLoader {
+        int calls
+
+        CountingLoader() {
+            super(AssetLookupCacheTest.classLoader)
+        }
+
+        @Override
+        URL getResource(String name) {
+            calls++
+            return super.getResource(name)
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ru.vyarus.guicey.gsp.asset
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.AbstractTest
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+import ru.vyarus.guicey.spa.asset.CompressedAssetServlet
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class FingerprintedAssetsTest extends AbstractTest {
+
+    def "Check fingerprinted asset url"() {
+
+        when: "rendering template with asset url"
+        String res = getHtml("/assetUrl.ftl")
+        String url = res.find(/\/css\/style\.[0-9a-f]{10}\.css/)
+        then: "fingerprinted url generated"
+        url != null
+
+        when: "requesting fingerprinted asset"
+        def response = client.targetMain(url).request().get()
+        String etag = response.getHeaderString(HttpHeaders.ETAG)
+        then: "immutable asset"
+        response.status == 200
+        response.getHeaderString(HttpHeaders.CACHE_CONTROL) == CompressedAssetServlet.IMMUTABLE
+        response.readEntity(String) == get("/css/style.css")
+
+        when: "requesting with entity tag"
+        response = client.targetMain(url).request().header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        response.status == 304
+    }
+
+    def "Check outdated fingerprint"() {
+
+        when: "requesting asset with wrong fingerprint"
+        def response = client.targetMain('/css/style.0123456789.css').request().get()
+        then: "current content served without caching"
+        response.status == 200
+        response.getHeaderString(HttpHeaders.CACHE_CONTROL) == 'no-cache'
+
+        when: "requesting not existing asset"
+        response = client.targetMain('/css/missing.0123456789.css').request().get()
+        then: "not found"
+        response.status == 404
+    }
+
+    def "Check real file with fingerprint-like name"() {
+
+        when: "requesting existing file with fingerprint-like name"
+        def response = client.targetMain('/fp/app.0123abcd45.js').request().get()
+        then: "requested file served"
+        response.status == 200
+        response.readEntity(String).trim() == 'fingerprinted'
+        response.getHeaderString(HttpHeaders.CACHE_CONTROL) == null
+
+        when: "requesting original file"
+        response = client.targetMain('/fp/app.js').request().get()
+        then: "original file served"
+        response.status == 200
+        response.readEntity(String).trim() == 'original'
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(
+                            ServerPagesBundle.builder().build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .fingerprintedAssets()
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ru.vyarus.guicey.gsp.views
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.AbstractTest
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+import ru.vyarus.guicey.gsp.support.app.SampleTemplateResource
+import ru.vyarus.guicey.gsp.views.template.CachedTemplate
+import ru.vyarus.guicey.gsp.views.template.Template
+
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.PathParam
+import javax.ws.rs.core.MediaType
+import javax.ws.rs.core.NewCookie
+import javax.ws.rs.core.Response
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class CachedTemplateTest extends AbstractTest {
+
+    def "Check rendered page cached"() {
+
+        when: "rendering page"
+        String res = getHtml("/cached/page")
+        then: "rendered"
+        res == "name: page1"
+
+        when: "rendering page again"
+        res = getHtml("/cached/page")
+        then: "cached page served"
+        res == "name: page1"
+        CachedResource.calls == 1
+
+        when: "rendering page with cache key param"
+        res = getHtml("/cached/page?q=1")
+        then: "rendered"
+        res == "name: page2"
+        getHtml("/cached/page?q=1") == "name: page2"
+
+        when: "rendering page with not cache key param"
+        res = getHtml("/cached/page?other=1")
+        then: "cached page served"
+        res == "name: page1"
+
+        when: "calling with entity tag"
+        def response = client.targetMain('/cached/page').request(MediaType.TEXT_HTML).get()
+        String etag = response.getHeaderString(HttpHeaders.ETAG)
+        response = client.targetMain('/cached/page').request(MediaType.TEXT_HTML)
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        etag != null
+        response.status == 304
+
+        when: "rendering not cached page"
+        getHtml("/cached/plain/page")
+        res = getHtml("/cached/plain/page")
+        then: "rendered each time"
+        res == "name: page4"
+    }
+
+    def "Check cached page headers"() {
+
+        when: "rendering page with custom headers"
+        def response = client.targetMain('/cached/headers/page').request(MediaType.TEXT_HTML).get()
+        int calls = CachedResource.calls
+        String etag = response.getHeaderString(HttpHeaders.ETAG)
+        then: "headers set"
+        response.status == 200
+        response.getHeaderString('X-Custom') == 'custom'
+        response.getHeaderString(HttpHeaders.SET_COOKIE) != null
+
+        and: "rendered page sent with entity tag"
+        etag != null
+        response.getHeaderString(HttpHeaders.CONTENT_LENGTH) != null
+
+        when: "serving cached page"
+        response = client.targetMain('/cached/headers/page').request(MediaType.TEXT_HTML).get()
+        then: "headers replayed, except cookies"
+        CachedResource.calls == calls
+        response.status == 200
+        response.getHeaderString(HttpHeaders.ETAG) == etag
+        response.getHeaderString('X-Custom') == 'custom'
+        response.getHeaderString(HttpHeaders.SET_COOKIE) == null
+
+        when: "rendering page cached per locale"
+        response = client.targetMain('/cached/locale/page').request(MediaType.TEXT_HTML).get()
+        calls = CachedResource.calls
+        then: "vary header set"
+        response.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_LANGUAGE)
+
+        when: "serving cached page"
+        response = client.targetMain('/cached/locale/page').request(MediaType.TEXT_HTML).get()
+        then: "vary header replayed"
+        CachedResource.calls == calls
+        response.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_LANGUAGE)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(CachedResource)
+                    .bundles(
+                            ServerPagesBundle.builder().build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/app/cached/")
+    @Template("/app/sample.ftl")
+    static class CachedResource {
+        static int calls
+
+        @Path("/{name}")
+        @GET
+        @CachedTemplate(params = "q")
+        SampleTemplateResource.SampleModel get(@PathParam("name") String name) {
+            return new SampleTemplateResource.SampleModel(name: name + (++calls))
+        }
+
+        @Path("/headers/{name}")
+        @GET
+        @CachedTemplate
+        Response headers(@PathParam("name") String name) {
+            return Response.ok(new SampleTemplateResource.SampleModel(name: name + (++calls)))
+                    .header('X-Custom', 'custom')
+                    .cookie(new NewCookie('session', 'value'))
+                    .build()
+        }
+
+        @Path("/locale/{name}")
+        @GET
+        @CachedTemplate(locale = true)
+        SampleTemplateResource.SampleModel locale(@PathParam("name") String name) {
+            return new SampleTemplateResource.SampleModel(name: name + (++calls))
+        }
+
+        @Path("/plain/{name}")
+        @GET
+        SampleTemplateResource.SampleModel plain(@PathParam("name") String name) {
+            return new SampleTemplateResource.SampleModel(name: name + (++calls))
+        }
+    }
+}
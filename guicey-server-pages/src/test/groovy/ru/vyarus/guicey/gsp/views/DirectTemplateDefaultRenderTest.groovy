@@ -0,0 +1,50 @@
+package ru.vyarus.guicey.gsp.views
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.AbstractTest
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class DirectTemplateDefaultRenderTest extends AbstractTest {
+
+    void setup() {
+        DirectTemplateRenderTest.RestCallsFilter.calls = 0
+    }
+
+    def "Check direct template rendered through rest by default"() {
+
+        when: "rendering direct template"
+        String res = getHtml("/directTemplate.ftl")
+        then: "rendered through rest (jersey filters applied)"
+        res == "page: /directTemplate.ftl"
+        DirectTemplateRenderTest.RestCallsFilter.calls == 1
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(DirectTemplateRenderTest.RestCallsFilter)
+                    .bundles(
+                            ServerPagesBundle.builder().build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .errorPage("error.ftl")
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
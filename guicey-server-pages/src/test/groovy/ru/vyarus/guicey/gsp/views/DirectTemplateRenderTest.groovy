@@ -0,0 +1,109 @@
+package ru.vyarus.guicey.gsp.views
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.AbstractTest
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+import ru.vyarus.guicey.gsp.support.app.SampleTemplateResource
+import ru.vyarus.guicey.gsp.views.template.Template
+
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.PathParam
+import javax.ws.rs.container.ContainerRequestContext
+import javax.ws.rs.container.ContainerRequestFilter
+import javax.ws.rs.core.MediaType
+import javax.ws.rs.ext.Provider
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class DirectTemplateRenderTest extends AbstractTest {
+
+    void setup() {
+        RestCallsFilter.calls = 0
+    }
+
+    def "Check direct template rendered without rest"() {
+
+        when: "rendering direct template"
+        String res = getHtml("/directTemplate.ftl")
+        then: "rendered without rest"
+        res == "page: /directTemplate.ftl"
+        RestCallsFilter.calls == 0
+
+        when: "rendering not existing template"
+        res = getHtml("/notexisting.ftl")
+        then: "error page rendered without rest"
+        res.contains("Error: NotFoundException")
+        RestCallsFilter.calls == 0
+
+        when: "rendering failed template"
+        res = getHtml("/failed.ftl")
+        then: "error page rendered"
+        res.contains("Error: WebApplicationException")
+        RestCallsFilter.calls == 0
+
+        when: "rendering template path, mapped in rest"
+        res = getHtml("/mapped/page.ftl")
+        then: "resource called"
+        res == "name: page.ftl"
+        RestCallsFilter.calls == 1
+    }
+
+    def "Check direct template rendering with rest"() {
+
+        when: "calling direct template with POST"
+        String res = client.targetMain('/directTemplate.ftl').request(MediaType.TEXT_HTML).post(null).readEntity(String)
+        then: "rendered through rest"
+        res == "page: /directTemplate.ftl"
+        RestCallsFilter.calls == 1
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(MappedResource, RestCallsFilter)
+                    .bundles(
+                            ServerPagesBundle.builder().build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .errorPage("error.ftl")
+                                    .enableDirectTemplatesRender()
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/app/mapped/")
+    @Template("/app/sample.ftl")
+    static class MappedResource {
+
+        @Path("/{name}")
+        @GET
+        SampleTemplateResource.SampleModel get(@PathParam("name") String name) {
+            return new SampleTemplateResource.SampleModel(name: name)
+        }
+    }
+
+    @Provider
+    static class RestCallsFilter implements ContainerRequestFilter {
+        static int calls
+
+        @Override
+        void filter(ContainerRequestContext requestContext) throws IOException {
+            calls++
+        }
+    }
+}
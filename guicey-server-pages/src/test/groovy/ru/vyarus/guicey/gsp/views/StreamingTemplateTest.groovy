@@ -0,0 +1,108 @@
+package ru.vyarus.guicey.gsp.views
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+import ru.vyarus.guicey.gsp.AbstractTest
+import ru.vyarus.guicey.gsp.ServerPagesBundle
+import ru.vyarus.guicey.gsp.support.app.SampleTemplateResource
+import ru.vyarus.guicey.gsp.views.template.StreamingTemplate
+import ru.vyarus.guicey.gsp.views.template.Template
+import ru.vyarus.guicey.gsp.views.template.TemplateView
+
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.PathParam
+import javax.ws.rs.core.MediaType
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class StreamingTemplateTest extends AbstractTest {
+
+    def "Check streaming rendering"() {
+
+        when: "rendering streaming page"
+        String res = getHtml("/streaming/page")
+        then: "rendered"
+        res == "<html><head><title>page</title></head><body>name: page</body></html>"
+
+        when: "rendering not streaming page"
+        res = getHtml("/streaming/plain/page")
+        then: "rendered"
+        res == "<html><head><title>page</title></head><body>name: page</body></html>"
+
+        when: "requesting streaming page"
+        def response = client.targetMain('/streaming/page').request(MediaType.TEXT_HTML).get()
+        then: "response flushed after head (without content length)"
+        response.status == 200
+        response.getHeaderString(HttpHeaders.CONTENT_LENGTH) == null
+        response.getHeaderString(HttpHeaders.TRANSFER_ENCODING) == 'chunked'
+
+        when: "requesting not streaming page"
+        response = client.targetMain('/streaming/plain/page').request(MediaType.TEXT_HTML).get()
+        then: "response buffered (with content length)"
+        response.status == 200
+        response.getHeaderString(HttpHeaders.CONTENT_LENGTH) != null
+        response.getHeaderString(HttpHeaders.TRANSFER_ENCODING) == null
+
+        when: "head rendering failed"
+        res = getHtml("/streaming/failed")
+        then: "error page rendered"
+        res.contains("Error: WebApplicationException")
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(StreamingResource, PlainResource)
+                    .bundles(
+                            ServerPagesBundle.builder().build(),
+                            ServerPagesBundle.app("app", "/app", "/")
+                                    .errorPage("error.ftl")
+                                    .build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/app/streaming/")
+    @Template("/app/streaming.ftl")
+    @StreamingTemplate
+    static class StreamingResource {
+
+        @Path("/{name}")
+        @GET
+        SampleTemplateResource.SampleModel get(@PathParam("name") String name) {
+            return new SampleTemplateResource.SampleModel(name: name)
+        }
+
+        @Path("/failed")
+        @GET
+        TemplateView failed() {
+            return new TemplateView("/app/streamingFailed.ftl")
+        }
+    }
+
+    @Path("/app/streaming/plain/")
+    @Template("/app/streaming.ftl")
+    static class PlainResource {
+
+        @Path("/{name}")
+        @GET
+        SampleTemplateResource.SampleModel get(@PathParam("name") String name) {
+            return new SampleTemplateResource.SampleModel(name: name)
+        }
+    }
+}
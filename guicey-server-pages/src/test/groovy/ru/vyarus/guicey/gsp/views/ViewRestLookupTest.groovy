@@ -0,0 +1,39 @@
+package ru.vyarus.guicey.gsp.views
+
+import ru.vyarus.guicey.gsp.app.rest.mapping.ViewRestLookup
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ViewRestLookupTest extends Specification {
+
+    ViewRestLookup lookup = new ViewRestLookup([
+            '': 'app/', 'sub/': 'p1/', 'sub/url/': 'p2/', 'sub/url/deep/': 'p3/', 'subx/': 'p4/'])
+
+    @Unroll
+    def "Check sub context lookup (#path)"() {
+
+        when: "resolving mapping"
+        ViewRestLookup.Mapping mapping = lookup.lookup(path)
+        then: "deepest sub url selected"
+        mapping.subContext == context
+        mapping.restPrefix == lookup.lookupRestPrefix(context)
+        mapping.buildRestPath('/rest/', path) == rest
+
+        where:
+        path               | context         | rest
+        ''                 | ''              | '/rest/app/'
+        'page.ftl'         | ''              | '/rest/app/page.ftl'
+        'sub'              | ''              | '/rest/app/sub'
+        'sub/'             | 'sub/'          | '/rest/p1/'
+        'sub/url'          | 'sub/'          | '/rest/p1/url'
+        'sub/urlx/page'    | 'sub/'          | '/rest/p1/urlx/page'
+        'sub/url/page'     | 'sub/url/'      | '/rest/p2/page'
+        'sub/url//page'    | 'sub/url/'      | '/rest/p2/page'
+        'sub/url/deep/a/b' | 'sub/url/deep/' | '/rest/p3/a/b'
+        'subx/page'        | 'subx/'         | '/rest/p4/page'
+    }
+}
@@ -0,0 +1,2 @@
+<#-- @ftlvariable name="" type="ru.vyarus.guicey.gsp.views.template.TemplateView" -->
+style: ${assetUrl('css/style.css')}
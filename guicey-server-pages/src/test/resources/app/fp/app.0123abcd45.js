@@ -0,0 +1 @@
+fingerprinted
@@ -0,0 +1 @@
+original
@@ -0,0 +1,2 @@
+<#-- @ftlvariable name="" type="ru.vyarus.guicey.gsp.support.app.SampleTemplateResource.SampleModel" -->
+<html><head><title>${name}</title></head><body>name: ${name}</body></html>
\ No newline at end of file
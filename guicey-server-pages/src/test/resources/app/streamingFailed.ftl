@@ -0,0 +1 @@
+<html><head><title>${unknownField}</title></head><body></body></html>
\ No newline at end of file
@@ -2,7 +2,6 @@ package ru.vyarus.guicey.spa;
 
 import com.google.common.base.Joiner;
 import io.dropwizard.jetty.setup.ServletEnvironment;
-import io.dropwizard.servlets.assets.AssetServlet;
 import io.dropwizard.core.setup.Environment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +9,7 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.dropwizard.guice.module.installer.util.PathUtils;
+import ru.vyarus.guicey.spa.asset.CompressedAssetServlet;
 import ru.vyarus.guicey.spa.filter.SpaRoutingFilter;
 
 import javax.servlet.DispatcherType;
@@ -54,6 +54,7 @@ public class SpaBundle implements GuiceyBundle {
     private String uriPath;
     private String indexFile = "index.html";
     private String noRedirectRegex = DEFAULT_PATTERN;
+    private boolean precompressed;
 
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
@@ -71,7 +72,9 @@ public class SpaBundle implements GuiceyBundle {
         final ServletEnvironment context = mainContext ? env.servlets() : env.admin();
 
         final Set<String> clash = context.addServlet(assetName,
-                new AssetServlet(resourcePath, uriPath, indexFile, StandardCharsets.UTF_8))
+                // fingerprinted urls could be generated only by server side templates
+                new CompressedAssetServlet(resourcePath, uriPath, indexFile, StandardCharsets.UTF_8,
+                        precompressed, false))
                 .addMapping(uriPath + '*');
 
         if (clash != null && !clash.isEmpty()) {
@@ -158,6 +161,23 @@ public class SpaBundle implements GuiceyBundle {
             return this;
         }
 
+        /**
+         * Serve assets from memory: each asset is loaded from classpath only once and stored off-heap together
+         * with compressed versions (for text assets). Gzip version is created automatically (or ".gz" sibling
+         * used if found in classpath), brotli version is used only if ".br" sibling exists in classpath.
+         * Response encoding selected according to Accept-Encoding header. Asset content hash is used as strong
+         * entity tag.
+         * <p>
+         * Must not be used when assets could change at runtime (assets are never re-loaded).
+         *
+         * @return builder instance
+         * @see CompressedAssetServlet
+         */
+        public Builder precompressedAssets() {
+            bundle.precompressed = true;
+            return this;
+        }
+
         /**
          * @return configured dropwizard bundle instance
          */
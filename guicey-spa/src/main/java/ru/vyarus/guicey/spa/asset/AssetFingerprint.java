@@ -0,0 +1,111 @@
+package ru.vyarus.guicey.spa.asset;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Asset fingerprint utilities. Fingerprint is a short prefix of asset content hash, inserted into file name
+ * (before extension): "app.js" becomes "app.3f2a9c0d1e.js". As url changes with asset content, such urls could be
+ * cached forever by browser (immutable).
+ * <p>
+ * The same content hash is used for entity tags.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class AssetFingerprint {
+
+    /**
+     * Fingerprint length (hash prefix).
+     */
+    public static final int LENGTH = 10;
+
+    private AssetFingerprint() {
+    }
+
+    /**
+     * @param content asset content
+     * @return asset content hash (hex)
+     */
+    public static String hash(final byte[] content) {
+        return Hashing.murmur3_128().hashBytes(content).toString();
+    }
+
+    /**
+     * Inserts fingerprint into file name (before extension).
+     *
+     * @param path asset path
+     * @param hash asset content hash
+     * @return fingerprinted path
+     */
+    public static String fingerprint(final String path, final String hash) {
+        final int name = path.lastIndexOf('/') + 1;
+        final int ext = path.lastIndexOf('.');
+        final String fingerprint = '.' + hash.substring(0, LENGTH);
+        // dot at the beginning is not an extension (hidden file)
+        return ext > name
+                ? path.substring(0, ext) + fingerprint + path.substring(ext)
+                : path + fingerprint;
+    }
+
+    /**
+     * @param path asset path (may be fingerprinted)
+     * @return fingerprint or null if path is not fingerprinted
+     */
+    public static String extract(final String path) {
+        final int pos = findFingerprint(path);
+        return pos < 0 ? null : path.substring(pos + 1, pos + 1 + LENGTH);
+    }
+
+    /**
+     * @param path fingerprinted asset path
+     * @return path without fingerprint (the same path if path is not fingerprinted)
+     */
+    public static String remove(final String path) {
+        final int pos = findFingerprint(path);
+        return pos < 0 ? path : path.substring(0, pos) + path.substring(pos + 1 + LENGTH);
+    }
+
+    /**
+     * @param hash        asset content hash
+     * @param fingerprint fingerprint
+     * @return true if fingerprint matches asset content
+     */
+    public static boolean matches(final String hash, final String fingerprint) {
+        return fingerprint != null && hash.startsWith(fingerprint);
+    }
+
+    /**
+     * Search for ".[hex fingerprint]" in file name: either at the end or followed by extension.
+     *
+     * @param path asset path
+     * @return fingerprint dot position or -1 if not found
+     */
+    private static int findFingerprint(final String path) {
+        final int name = path.lastIndexOf('/') + 1;
+        int end = path.lastIndexOf('.');
+        int pos = end - LENGTH - 1;
+        if (pos < name || !isFingerprint(path, pos)) {
+            // file without extension
+            end = path.length();
+            pos = end - LENGTH - 1;
+            if (pos < name || !isFingerprint(path, pos)) {
+                return -1;
+            }
+        }
+        // file name must not be empty
+        return pos > name ? pos : -1;
+    }
+
+    private static boolean isFingerprint(final String path, final int pos) {
+        if (path.charAt(pos) != '.') {
+            return false;
+        }
+        for (int i = pos + 1; i <= pos + LENGTH; i++) {
+            final char c = path.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
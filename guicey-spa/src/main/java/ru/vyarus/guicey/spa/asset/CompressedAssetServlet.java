@@ -0,0 +1,457 @@
+package ru.vyarus.guicey.spa.asset;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.net.HttpHeaders;
+import com.google.common.net.MediaType;
+import io.dropwizard.servlets.assets.AssetServlet;
+import io.dropwizard.servlets.assets.ResourceURL;
+import org.eclipse.jetty.server.HttpOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Dropwizard {@link AssetServlet} extension, serving assets from memory. Default servlet reads resource from
+ * classpath (jar) on each request. In precompressed mode, asset is loaded only once (on first request) and stored
+ * off-heap (direct buffer) together with compressed version (for text assets). Response encoding is selected
+ * according to Accept-Encoding header.
+ * <p>
+ * Gzip version is created automatically, but if asset has ".gz" sibling in classpath (e.g. "app.js.gz" for
+ * "app.js") then it would be used instead. Brotli version is used only if ".br" sibling exists (build tools
+ * usually could prepare it).
+ * <p>
+ * Note that pre-compressed responses are not compressed again by jetty gzip handler (response already declares
+ * encoding) and so assets compression is performed just once.
+ * <p>
+ * Stored assets are written without copying into heap (when jetty output used directly). Range requests and
+ * large assets (more than {@link #MAX_STORED_SIZE}) are processed by default servlet logic.
+ * <p>
+ * In fingerprinted mode, assets could be also requested with content hash in file name (e.g. "app.3f2a9c0d1e.js"
+ * for "app.js", see {@link AssetFingerprint}). Such urls are served with immutable cache header, because any
+ * content change would lead to different url. Fingerprinted url must be generated with
+ * {@link #getFingerprintedPath(String)}. When fingerprint does not match current asset content (outdated link),
+ * current content is served without caching. Real files with fingerprint-like names (e.g. prepared by build tool)
+ * are served as usual (fingerprint is removed only if requested file does not exist). Fingerprinted path resolution
+ * is performed only on first request. Stored assets use content hash as strong entity tag.
+ * <p>
+ * Assets are never re-loaded so precompressed (or fingerprinted) mode must not be used when assets could change at
+ * runtime.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class CompressedAssetServlet extends AssetServlet {
+
+    /**
+     * Maximum asset size to store in memory.
+     */
+    public static final int MAX_STORED_SIZE = 2 * 1024 * 1024;
+    /**
+     * Cache header value for assets requested with correct fingerprint.
+     */
+    public static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private static final long serialVersionUID = -2385962014723455712L;
+    private static final int MIN_COMPRESS_SIZE = 256;
+    private static final Set<String> COMPRESSIBLE = ImmutableSet.of(
+            "application/javascript",
+            "application/x-javascript",
+            "application/json",
+            "application/xml",
+            "application/xhtml+xml",
+            "application/manifest+json",
+            "image/svg+xml",
+            "image/x-icon");
+
+    private final transient Logger logger = LoggerFactory.getLogger(CompressedAssetServlet.class);
+
+    // normalized the same way as in super class
+    private final String resourcePath;
+    private final boolean precompressed;
+    private final boolean fingerprinted;
+    // absolute resource path --> stored asset (empty for not stored assets)
+    private final transient Map<String, Optional<StoredAsset>> assets = new ConcurrentHashMap<>();
+    // fingerprinted resource path --> original resource path (empty for real files and not found assets)
+    private final transient Map<String, Optional<String>> fingerprints = new ConcurrentHashMap<>();
+
+    public CompressedAssetServlet(final String resourcePath,
+                                  final String uriPath,
+                                  @Nullable final String indexFile,
+                                  @Nullable final Charset defaultCharset,
+                                  final boolean precompressed,
+                                  final boolean fingerprinted) {
+        super(resourcePath, uriPath, indexFile, defaultCharset);
+        final String trimmedPath = CharMatcher.is('/').trimFrom(resourcePath);
+        this.resourcePath = trimmedPath.isEmpty() ? trimmedPath : trimmedPath + '/';
+        this.precompressed = precompressed;
+        this.fingerprinted = fingerprinted;
+    }
+
+    /**
+     * @return true if assets served from memory with compression
+     */
+    public boolean isPrecompressed() {
+        return precompressed;
+    }
+
+    /**
+     * @return true if fingerprinted urls supported
+     */
+    public boolean isFingerprinted() {
+        return fingerprinted;
+    }
+
+    /**
+     * Generates fingerprinted asset path (with content hash in file name). Asset is loaded and stored in memory
+     * (if not yet stored). If fingerprinted mode is not enabled, asset not found or asset is too large to be stored,
+     * original path returned.
+     *
+     * @param path asset path, relative to servlet mapping (e.g. "css/style.css")
+     * @return fingerprinted asset path (e.g. "css/style.3f2a9c0d1e.css") or original path
+     */
+    public String getFingerprintedPath(final String path) {
+        if (!fingerprinted) {
+            return path;
+        }
+        final CharMatcher slash = CharMatcher.is('/');
+        try {
+            final Optional<StoredAsset> asset = getAsset(slash.trimFrom(resourcePath + slash.trimFrom(path)));
+            return asset.isPresent() ? AssetFingerprint.fingerprint(path, asset.get().getHash()) : path;
+        } catch (RuntimeException | IOException | URISyntaxException ex) {
+            logger.debug("Fingerprint could not be generated for asset {}", path, ex);
+            return path;
+        }
+    }
+
+    /**
+     * @return count of assets stored in memory
+     */
+    public int getStoredCount() {
+        return (int) assets.values().stream().filter(Optional::isPresent).count();
+    }
+
+    /**
+     * @return total memory (in bytes) used by stored assets
+     */
+    public long getStoredSize() {
+        return assets.values().stream().filter(Optional::isPresent).mapToLong(it -> it.get().getSize()).sum();
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:ReturnCount")
+    protected void doGet(final HttpServletRequest req,
+                         final HttpServletResponse resp) throws ServletException, IOException {
+        if (!precompressed && !fingerprinted) {
+            super.doGet(req, resp);
+            return;
+        }
+        String fingerprint = null;
+        final Optional<StoredAsset> asset;
+        try {
+            String path = getAbsolutePath(req);
+            if (fingerprinted) {
+                fingerprint = AssetFingerprint.extract(path);
+                final Optional<String> original = fingerprint == null ? Optional.empty() : getOriginalPath(path);
+                if (original.isPresent()) {
+                    path = original.get();
+                } else {
+                    fingerprint = null;
+                }
+            }
+            if (req.getHeader(HttpHeaders.RANGE) != null) {
+                // ranges always served from original resource
+                super.doGet(fingerprint == null ? req : new OriginalPathRequest(req), resp);
+                return;
+            }
+            asset = getAsset(path);
+        } catch (RuntimeException | URISyntaxException ignored) {
+            // mimic super class behaviour
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        if (asset.isPresent()) {
+            serve(req, resp, asset.get(), fingerprint);
+        } else {
+            super.doGet(fingerprint == null ? req : new OriginalPathRequest(req), resp);
+        }
+    }
+
+    /**
+     * Searches for optional resource (like compressed version of asset).
+     *
+     * @param absolutePath resource classpath path
+     * @return resource url or null if not found
+     */
+    protected URL findResource(final String absolutePath) {
+        try {
+            return getResourceURL(absolutePath);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private String getAbsolutePath(final HttpServletRequest req) {
+        final StringBuilder builder = new StringBuilder(req.getServletPath());
+        if (req.getPathInfo() != null) {
+            builder.append(req.getPathInfo());
+        }
+        final String key = builder.toString();
+        if (!key.startsWith(getUriPath())) {
+            throw new IllegalArgumentException("Path " + key + " is not under servlet mapping");
+        }
+        final CharMatcher slash = CharMatcher.is('/');
+        return slash.trimFrom(resourcePath + slash.trimFrom(key.substring(getUriPath().length())));
+    }
+
+    private Optional<String> getOriginalPath(final String path) {
+        Optional<String> original = fingerprints.get(path);
+        if (original == null) {
+            // resolved only once because classpath lookup is required (no need for atomic computation)
+            original = Optional.empty();
+            // real file with fingerprint-like name (e.g. prepared by build tool) has priority
+            if (!assets.containsKey(path) && findResource(path) == null) {
+                final String res = AssetFingerprint.remove(path);
+                if (assets.containsKey(res) || findResource(res) != null) {
+                    original = Optional.of(res);
+                }
+            }
+            fingerprints.put(path, original);
+        }
+        return original;
+    }
+
+    private Optional<StoredAsset> getAsset(final String path) throws IOException, URISyntaxException {
+        Optional<StoredAsset> asset = assets.get(path);
+        if (asset == null) {
+            // no need for atomic computation: in worst case the same asset would be loaded twice
+            asset = Optional.ofNullable(load(path));
+            assets.put(path, asset);
+        }
+        return asset;
+    }
+
+    private StoredAsset load(final String path) throws IOException, URISyntaxException {
+        String resolvedPath = path;
+        URL url = getResourceURL(path);
+        if (ResourceURL.isDirectory(url)) {
+            if (getIndexFile() == null) {
+                throw new IllegalArgumentException("Directory " + path + " requested without index file");
+            }
+            resolvedPath = path + '/' + getIndexFile();
+            url = getResourceURL(resolvedPath);
+        }
+        final byte[] content = readResource(url);
+        if (content.length > MAX_STORED_SIZE) {
+            logger.debug("Asset {} is too large ({} bytes) to be stored in memory", resolvedPath, content.length);
+            return null;
+        }
+        long lastModified = ResourceURL.getLastModified(url);
+        if (lastModified < 1) {
+            lastModified = System.currentTimeMillis();
+        }
+        // clients cache with seconds precision
+        lastModified = (lastModified / 1000) * 1000;
+
+        final MediaType type = getMediaType(resolvedPath);
+        ByteBuffer gzip = null;
+        ByteBuffer brotli = null;
+        if (precompressed && content.length >= MIN_COMPRESS_SIZE && isCompressible(type)) {
+            final URL gz = findResource(resolvedPath + ".gz");
+            gzip = store(gz != null ? readResource(gz) : gzip(content), content.length);
+            final URL br = findResource(resolvedPath + ".br");
+            brotli = br != null ? store(readResource(br), content.length) : null;
+        }
+        final StoredAsset res = new StoredAsset(store(content, Integer.MAX_VALUE), gzip, brotli, type,
+                AssetFingerprint.hash(content), lastModified);
+        logger.debug("Asset {} stored in memory (compressed: {})", resolvedPath, res.isCompressed());
+        return res;
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private void serve(final HttpServletRequest req,
+                       final HttpServletResponse resp,
+                       final StoredAsset asset,
+                       final String fingerprint) throws IOException {
+        if (fingerprint != null) {
+            // outdated fingerprint: current content must not be cached under old url
+            resp.setHeader(HttpHeaders.CACHE_CONTROL,
+                    AssetFingerprint.matches(asset.getHash(), fingerprint) ? IMMUTABLE : "no-cache");
+        }
+        final String encoding = selectEncoding(req, asset);
+        final String eTag = asset.getETag(encoding);
+        if (isCachedClientSide(req, asset, eTag)) {
+            // mimic super class behaviour
+            resp.sendError(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        resp.setDateHeader(HttpHeaders.LAST_MODIFIED, asset.getLastModified());
+        resp.setHeader(HttpHeaders.ETAG, eTag);
+        final MediaType type = asset.getMediaType();
+        if (type.is(MediaType.ANY_VIDEO_TYPE) || type.is(MediaType.ANY_AUDIO_TYPE)) {
+            resp.addHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        resp.setContentType(type.type() + '/' + type.subtype());
+        if (type.charset().isPresent()) {
+            resp.setCharacterEncoding(type.charset().get().toString());
+        }
+        if (asset.isCompressed()) {
+            resp.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoding != null) {
+            resp.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        final ByteBuffer content = asset.getContent(encoding);
+        resp.setContentLengthLong(content.remaining());
+        if ("HEAD".equals(req.getMethod())) {
+            return;
+        }
+
+        final ServletOutputStream out = resp.getOutputStream();
+        if (out instanceof HttpOutput) {
+            // direct buffer written without copying
+            ((HttpOutput) out).sendContent(content);
+        } else {
+            // wrapped response
+            final byte[] bytes = new byte[content.remaining()];
+            content.get(bytes);
+            out.write(bytes);
+        }
+    }
+
+    private MediaType getMediaType(final String path) {
+        MediaType res = MediaType.parse(getDefaultMediaType());
+        // resolved path used instead of request uri (as in super class) because asset could be loaded
+        // outside of request; extension is the same (index file assumed to be html)
+        final String mimeTypeOfExtension = getServletContext().getMimeType(path);
+        if (mimeTypeOfExtension != null) {
+            try {
+                res = MediaType.parse(mimeTypeOfExtension);
+            } catch (IllegalArgumentException ignore) {
+                // ignore and use default type (as super class does)
+            }
+        }
+        if (getDefaultCharset() != null && res.is(MediaType.ANY_TEXT_TYPE)) {
+            res = res.withCharset(getDefaultCharset());
+        }
+        return res;
+    }
+
+    private boolean isCompressible(final MediaType type) {
+        return type.is(MediaType.ANY_TEXT_TYPE) || COMPRESSIBLE.contains(type.withoutParameters().toString());
+    }
+
+    private String selectEncoding(final HttpServletRequest req, final StoredAsset asset) {
+        final String accept = req.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String res = null;
+        if (accept != null && asset.isCompressed()) {
+            if (asset.hasBrotli() && isAccepted(accept, StoredAsset.BROTLI)) {
+                res = StoredAsset.BROTLI;
+            } else if (asset.hasGzip() && isAccepted(accept, StoredAsset.GZIP)) {
+                res = StoredAsset.GZIP;
+            }
+        }
+        return res;
+    }
+
+    private boolean isAccepted(final String acceptEncoding, final String encoding) {
+        for (String part : acceptEncoding.split(",")) {
+            final String[] tokens = part.split(";");
+            final String name = tokens[0].trim();
+            if (name.equalsIgnoreCase(encoding) || "*".equals(name)) {
+                // encoding could be explicitly forbidden with zero quality (e.g. gzip;q=0)
+                return tokens.length == 1 || !tokens[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean isCachedClientSide(final HttpServletRequest req, final StoredAsset asset, final String eTag) {
+        final String match = req.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (match != null) {
+            for (String tag : match.split(",")) {
+                // tag could be marked as weak by proxy
+                String value = tag.trim();
+                value = value.startsWith("W/") ? value.substring(2) : value;
+                // jetty gzip handler removes encoding suffix from entity tag, so original tag also accepted
+                // (anyway, the same content)
+                if (eTag.equals(value) || asset.getETag().equals(value) || "*".equals(value)) {
+                    return true;
+                }
+            }
+            // modification date must be ignored when entity tag provided
+            return false;
+        }
+        return req.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE) >= asset.getLastModified();
+    }
+
+    private ByteBuffer store(final byte[] content, final int limit) {
+        // compressed version ignored if it is not smaller than original
+        if (content.length >= limit) {
+            return null;
+        }
+        final ByteBuffer res = ByteBuffer.allocateDirect(content.length);
+        res.put(content);
+        res.flip();
+        return res;
+    }
+
+    private byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream res = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(res) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        }
+        return res.toByteArray();
+    }
+
+    /**
+     * Request wrapper, removing fingerprint from requested path for default servlet processing.
+     */
+    private static class OriginalPathRequest extends HttpServletRequestWrapper {
+
+        OriginalPathRequest(final HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getServletPath() {
+            final String path = super.getServletPath();
+            final String info = super.getPathInfo();
+            return AssetFingerprint.remove(info == null ? path : path + info);
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+
+        @Override
+        public String getRequestURI() {
+            return AssetFingerprint.remove(super.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ru.vyarus.guicey.spa.asset;
+
+import com.google.common.net.MediaType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Asset content, stored in memory (off-heap) together with compressed versions (if applicable).
+ * Object is immutable: returned buffers are duplicates (with independent position) of stored buffers.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class StoredAsset {
+
+    /**
+     * Encoding name for gzip compressed content.
+     */
+    public static final String GZIP = "gzip";
+    /**
+     * Encoding name for brotli compressed content.
+     */
+    public static final String BROTLI = "br";
+
+    private final ByteBuffer content;
+    private final ByteBuffer gzip;
+    private final ByteBuffer brotli;
+    private final MediaType mediaType;
+    private final String hash;
+    private final String eTag;
+    private final long lastModified;
+
+    public StoredAsset(final ByteBuffer content,
+                       final ByteBuffer gzip,
+                       final ByteBuffer brotli,
+                       final MediaType mediaType,
+                       final String hash,
+                       final long lastModified) {
+        this.content = content;
+        this.gzip = gzip;
+        this.brotli = brotli;
+        this.mediaType = mediaType;
+        this.hash = hash;
+        this.eTag = '"' + hash + '"';
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @return asset content
+     */
+    public ByteBuffer getContent() {
+        return content.duplicate();
+    }
+
+    /**
+     * @param encoding encoding name ({@link #GZIP} or {@link #BROTLI})
+     * @return compressed content or null if not available
+     */
+    public ByteBuffer getContent(final String encoding) {
+        final ByteBuffer res = BROTLI.equals(encoding) ? brotli : GZIP.equals(encoding) ? gzip : content;
+        return res == null ? null : res.duplicate();
+    }
+
+    /**
+     * @return true if asset has compressed versions
+     */
+    public boolean isCompressed() {
+        return gzip != null || brotli != null;
+    }
+
+    /**
+     * @return true if brotli compressed content available
+     */
+    public boolean hasBrotli() {
+        return brotli != null;
+    }
+
+    /**
+     * @return true if gzip compressed content available
+     */
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    /**
+     * @return asset media type
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return content hash (see {@link AssetFingerprint#hash(byte[])})
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * @return strong entity tag for not compressed content (content hash)
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Compressed content must use different entity tag (as different representation of the same resource).
+     *
+     * @param encoding encoding name or null for not compressed content
+     * @return entity tag for representation
+     */
+    public String getETag(final String encoding) {
+        return encoding == null ? eTag : eTag.substring(0, eTag.length() - 1) + "--" + encoding + '"';
+    }
+
+    /**
+     * @return asset last modification time (seconds precision)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return total memory, occupied by asset contents
+     */
+    public int getSize() {
+        return content.capacity()
+                + (gzip == null ? 0 : gzip.capacity())
+                + (brotli == null ? 0 : brotli.capacity());
+    }
+}
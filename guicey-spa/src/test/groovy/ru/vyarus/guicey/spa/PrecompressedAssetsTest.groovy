@@ -0,0 +1,96 @@
+package ru.vyarus.guicey.spa
+
+import com.google.common.net.HttpHeaders
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestDropwizardApp
+
+import javax.ws.rs.core.MediaType
+import java.util.zip.GZIPInputStream
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestDropwizardApp(value = App, restMapping = "/rest/*")
+class PrecompressedAssetsTest extends AbstractTest {
+
+    def "Check compressed asset"() {
+
+        when: "accepting gzip"
+        def res = client.targetMain('/css/large.css').request()
+                .header(HttpHeaders.ACCEPT_ENCODING, 'gzip, deflate').get()
+        String etag = res.getHeaderString(HttpHeaders.ETAG)
+        then: "compressed content"
+        res.status == 200
+        res.getHeaderString(HttpHeaders.CONTENT_ENCODING) == 'gzip'
+        res.getHeaderString(HttpHeaders.VARY) == HttpHeaders.ACCEPT_ENCODING
+        etag.endsWith('--gzip"')
+        new GZIPInputStream(new ByteArrayInputStream(res.readEntity(byte[]))).text == original('css/large.css')
+
+        when: "not accepting compression"
+        res = client.targetMain('/css/large.css').request().get()
+        then: "plain content"
+        res.status == 200
+        res.getHeaderString(HttpHeaders.CONTENT_ENCODING) == null
+        res.getHeaderString(HttpHeaders.ETAG) != etag
+        res.readEntity(String) == original('css/large.css')
+
+        when: "calling with compressed content tag"
+        res = client.targetMain('/css/large.css').request()
+                .header(HttpHeaders.ACCEPT_ENCODING, 'gzip')
+                .header(HttpHeaders.IF_NONE_MATCH, etag).get()
+        then: "not modified"
+        res.status == 304
+    }
+
+    def "Check small assets not compressed"() {
+
+        when: "accepting gzip"
+        def res = client.targetMain('/css/some.css').request()
+                .header(HttpHeaders.ACCEPT_ENCODING, 'gzip').get()
+        then: "plain content"
+        res.status == 200
+        res.getHeaderString(HttpHeaders.CONTENT_ENCODING) == null
+        res.readEntity(String) == original('css/some.css')
+    }
+
+    def "Check spa routing"() {
+
+        when: "accessing app"
+        String res = get("/")
+        then: "index page"
+        res.contains("Sample page")
+
+        when: "accessing route"
+        res = get("/some/")
+        then: "index page"
+        res.contains("Sample page")
+
+        when: "accessing not existing resource"
+        def resp = client.targetMain('/some.css').request(MediaType.TEXT_HTML).get()
+        then: "error"
+        resp.status == 404
+    }
+
+    private String original(String path) {
+        return getClass().getResourceAsStream("/app/$path").text
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(SpaBundle.app("app", "app", "/").precompressedAssets().build())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
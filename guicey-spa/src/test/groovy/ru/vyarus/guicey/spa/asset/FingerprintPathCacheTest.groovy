@@ -0,0 +1,79 @@
+package ru.vyarus.guicey.spa.asset
+
+import spock.lang.Specification
+
+import javax.servlet.ServletConfig
+import javax.servlet.ServletContext
+import javax.servlet.http.HttpServletRequest
+import javax.servlet.http.HttpServletResponse
+import java.nio.charset.StandardCharsets
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class FingerprintPathCacheTest extends Specification {
+
+    CountingServlet servlet
+
+    void setup() {
+        servlet = new CountingServlet()
+        servlet.init(Mock(ServletConfig) { getServletContext() >> Mock(ServletContext) })
+    }
+
+    def "Check fingerprinted path resolved once"() {
+
+        when: "requesting fingerprinted asset"
+        servlet.doGet(request('/css/some.0123456789.css'), Mock(HttpServletResponse))
+        then: "fingerprinted and original paths checked"
+        servlet.lookups == ['app/css/some.0123456789.css', 'app/css/some.css']
+
+        when: "requesting the same asset again"
+        servlet.lookups.clear()
+        servlet.doGet(request('/css/some.0123456789.css'), Mock(HttpServletResponse))
+        then: "no classpath lookups"
+        servlet.lookups.empty
+    }
+
+    def "Check not found fingerprinted path resolved once"() {
+
+        setup:
+        HttpServletResponse response = Mock(HttpServletResponse)
+
+        when: "requesting not existing fingerprinted asset"
+        servlet.doGet(request('/css/missing.0123456789.css'), response)
+        then: "not found"
+        1 * response.sendError(HttpServletResponse.SC_NOT_FOUND)
+        servlet.lookups == ['app/css/missing.0123456789.css', 'app/css/missing.css']
+
+        when: "requesting the same asset again"
+        servlet.lookups.clear()
+        servlet.doGet(request('/css/missing.0123456789.css'), response)
+        then: "not found without classpath lookups"
+        1 * response.sendError(HttpServletResponse.SC_NOT_FOUND)
+        servlet.lookups.empty
+    }
+
+    private HttpServletRequest request(String path) {
+        return Mock(HttpServletRequest) {
+            getServletPath() >> ''
+            getPathInfo() >> path
+            getMethod() >> 'HEAD'
+        }
+    }
+
+    static class CountingServlet extends CompressedAssetServlet {
+
+        List<String> lookups = []
+
+        CountingServlet() {
+            super('/app', '/', 'index.html', StandardCharsets.UTF_8, false, true)
+        }
+
+        @Override
+        protected URL findResource(String absolutePath) {
+            lookups.add(absolutePath)
+            return super.findResource(absolutePath)
+        }
+    }
+}
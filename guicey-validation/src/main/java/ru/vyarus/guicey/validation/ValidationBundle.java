@@ -1,5 +1,8 @@
 package ru.vyarus.guicey.validation;
 
+import com.google.common.base.Preconditions;
+import com.google.inject.Module;
+import com.google.inject.matcher.AbstractMatcher;
 import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
 import org.slf4j.Logger;
@@ -9,13 +12,24 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.guice.validator.ValidationModule;
 import ru.vyarus.guice.validator.aop.DeclaredMethodMatcher;
+import ru.vyarus.guice.validator.group.ValidationContext;
+import ru.vyarus.guicey.validation.metrics.TimedValidatorFactory;
+import ru.vyarus.guicey.validation.metrics.ValidationReportTask;
+import ru.vyarus.guicey.validation.metrics.ValidationStats;
+import ru.vyarus.guicey.validation.util.ConstrainedMethodMatcher;
+import ru.vyarus.guicey.validation.util.FailFastValidatorFactory;
+import ru.vyarus.guicey.validation.util.GroupsInterceptor;
+import ru.vyarus.guicey.validation.util.MetadataWarmup;
 import ru.vyarus.guicey.validation.util.RestMethodMatcher;
 
 import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
 import javax.validation.executable.ValidateOnExecution;
 import javax.ws.rs.Path;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Validation bundle activates implicit method validations for guice beans. It means that if method have
@@ -35,6 +49,9 @@ import java.lang.reflect.Method;
  * be able to wire guice injections for validators requiring it. Module substitute {@link Validator} instance in
  * dropwizard {@link io.dropwizard.core.setup.Environment} so custom guice-aware validators may be used on rest
  * resources too,
+ * <p>
+ * Validation interceptor is applied only to methods with constraints (methods without constraints are not
+ * intercepted at all).
  *
  * @author Vyacheslav Rusakov
  * @since 26.12.2019
@@ -50,6 +67,13 @@ public class ValidationBundle extends UniqueGuiceyBundle {
             .and(Matchers.not(new RestMethodMatcher()));
     private Class<? extends Annotation> targetAnnotation;
     private boolean strictGroups;
+    private boolean interceptAll;
+    private boolean metrics;
+    private boolean failFast;
+    private int warmUpThreads;
+    private final Map<Matcher<? super Class>, Class<?>[]> groups = new LinkedHashMap<>();
+    private ConstrainedMethodMatcher constrainedMatcher;
+    private ValidationStats stats;
 
 
     /**
@@ -133,12 +157,115 @@ public class ValidationBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Activates hibernate validator fail fast mode: validation stops on the first violation (so exception would
+     * contain only one violation). Reduces validation cost for invalid calls. Applied to rest resources too
+     * (because the same validator is used).
+     *
+     * @return bundle instance
+     */
+    public ValidationBundle failFast() {
+        this.failFast = true;
+        return this;
+    }
+
+    /**
+     * Restricts validation of methods in matched classes to specified groups (the same as annotating all methods
+     * with {@link ru.vyarus.guice.validator.group.annotation.ValidationGroups}). Useful for cheap validation of
+     * high-load internal services (e.g. only constraints declared with {@code groups = Cheap.class}), while keeping
+     * full validation at the edges. Could be called multiple times for different classes.
+     * <p>
+     * Note that {@link javax.validation.groups.Default} group is always added unless
+     * {@link #strictGroupsDeclaration()} enabled. Groups, declared with annotations, would be added to configured.
+     *
+     * @param classes matcher for classes to apply groups to
+     * @param groups  validation groups to use
+     * @return bundle instance
+     */
+    public ValidationBundle validationGroups(final Matcher<? super Class> classes, final Class<?>... groups) {
+        this.groups.put(classes, groups);
+        return this;
+    }
+
+    /**
+     * Shortcut for {@link #warmUpMetadata(int)} with threads count equal to available processors.
+     *
+     * @return bundle instance
+     */
+    public ValidationBundle warmUpMetadata() {
+        return warmUpMetadata(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Hibernate validator builds beans metadata lazily, so the first calls of each validated bean are slow.
+     * Enables metadata building at startup for all guice beans matching target classes and methods.
+     * Classes are processed concurrently. Warm up time is reported in log.
+     *
+     * @param threads threads to use for warm up
+     * @return bundle instance
+     */
+    public ValidationBundle warmUpMetadata(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        this.warmUpThreads = threads;
+        return this;
+    }
+
+    /**
+     * By default, validation interceptor is applied only to methods with constraints (according to validator
+     * metadata, see {@link ConstrainedMethodMatcher}) because for other methods validation would never be
+     * performed. Use this option to apply interceptor to all matched methods (as guice-validator does).
+     *
+     * @return bundle instance
+     */
+    public ValidationBundle interceptAllMatchedMethods() {
+        this.interceptAll = true;
+        return this;
+    }
+
+    /**
+     * Enables validation instrumentation: validation time of each method and constraint type and violations
+     * count are registered in dropwizard metrics. Report of the most expensive validated methods is available
+     * with "validation-report" admin task or directly from {@link ValidationStats} (bound in guice context).
+     * <p>
+     * Instrumentation adds some overhead to each validation, so use it only for profiling.
+     *
+     * @return bundle instance
+     * @see ValidationStats for metric names
+     */
+    public ValidationBundle withMetrics() {
+        this.metrics = true;
+        return this;
+    }
+
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
+        ValidatorFactory factory = bootstrap.bootstrap().getValidatorFactory();
+        Matcher<? super Method> methods = methodMatcher;
+        if (!interceptAll) {
+            // avoid interceptor on methods without constraints (metadata checked only for methods accepted
+            // by user matcher)
+            constrainedMatcher = new ConstrainedMethodMatcher(factory.getValidator());
+            // safe: matcher accepting method super type accepts methods
+            @SuppressWarnings("unchecked")
+            final Matcher<Method> userMatcher = (Matcher<Method>) methodMatcher;
+            methods = userMatcher.and(constrainedMatcher);
+        }
+        if (failFast) {
+            factory = new FailFastValidatorFactory(factory);
+        }
+        if (metrics) {
+            stats = new ValidationStats(bootstrap.bootstrap().getMetricRegistry());
+            factory = new TimedValidatorFactory(factory, stats);
+            bootstrap.modules(binder -> binder.bind(ValidationStats.class).toInstance(stats));
+        }
+        if (!groups.isEmpty()) {
+            // groups interceptors must be registered before validation interceptor
+            bootstrap.modules(groupsModule(methods));
+        }
         // excluding rest beans because dropwizard already applies validation support there
-        final ValidationModule module = new ValidationModule(bootstrap.bootstrap().getValidatorFactory())
+        final ValidationModule module = new ValidationModule(factory)
                 .targetClasses(typeMatcher)
-                .targetMethods(methodMatcher);
+                .targetMethods(methods);
 
         if (targetAnnotation != null) {
             module.validateAnnotatedOnly(targetAnnotation);
@@ -153,16 +280,41 @@ public class ValidationBundle extends UniqueGuiceyBundle {
 
     @Override
     public void run(final GuiceyEnvironment environment) throws Exception {
+        if (stats != null) {
+            environment.environment().admin().addTask(new ValidationReportTask(stats));
+        }
         // substitute dropwizard validator with guice-aware validator in order to be able
         // to use custom (guice-aware) validators in resources
         environment.onGuiceyStartup((config, env, injector) -> {
-            env.setValidator(injector.getInstance(Validator.class));
+            final Validator validator = injector.getInstance(Validator.class);
+            env.setValidator(validator);
             if (targetAnnotation == null) {
                 logger.info("Validation annotations support enabled on guice beans");
             } else {
                 logger.info("Validation annotations support enabled on guice beans and methods, "
                         + "annotated with @{}", targetAnnotation.getSimpleName());
             }
+            if (constrainedMatcher != null) {
+                logger.debug("Validation interceptors applied to {} of {} checked methods",
+                        constrainedMatcher.getConstrainedCount(), constrainedMatcher.getCheckedCount());
+            }
+            if (warmUpThreads > 0) {
+                logger.info(new MetadataWarmup(typeMatcher, methodMatcher, warmUpThreads)
+                        .warmUp(injector, validator));
+            }
+        });
+    }
+
+    private Module groupsModule(final Matcher<? super Method> methods) {
+        return binder -> groups.forEach((classes, grps) -> {
+            final Matcher<Class> target = new AbstractMatcher<Class>() {
+                @Override
+                public boolean matches(final Class type) {
+                    return typeMatcher.matches(type) && classes.matches(type);
+                }
+            };
+            binder.bindInterceptor(target, methods,
+                    new GroupsInterceptor(binder.getProvider(ValidationContext.class), grps));
         });
     }
 }
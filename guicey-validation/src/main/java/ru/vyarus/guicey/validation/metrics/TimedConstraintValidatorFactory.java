@@ -0,0 +1,84 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.metadata.ConstraintDescriptor;
+import java.lang.annotation.Annotation;
+
+/**
+ * Constraint validator factory decorator: wraps all constraint validators to record validation time per
+ * constraint type.
+ * <p>
+ * Decorator implements {@link HibernateConstraintValidator} to preserve extended initialization of hibernate
+ * validators.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TimedConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+    private final ConstraintValidatorFactory factory;
+    private final ValidationStats stats;
+
+    public TimedConstraintValidatorFactory(final ConstraintValidatorFactory factory, final ValidationStats stats) {
+        this.factory = factory;
+        this.stats = stats;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends ConstraintValidator<?, ?>> T getInstance(final Class<T> key) {
+        return (T) new TimedConstraintValidator<>((ConstraintValidator<Annotation, Object>) factory.getInstance(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void releaseInstance(final ConstraintValidator<?, ?> instance) {
+        factory.releaseInstance(instance instanceof TimedConstraintValidator
+                ? ((TimedConstraintValidator<Annotation, Object>) instance).validator : instance);
+    }
+
+    /**
+     * Constraint validator decorator.
+     *
+     * @param <A> constraint annotation type
+     * @param <T> validated value type
+     */
+    private class TimedConstraintValidator<A extends Annotation, T> implements HibernateConstraintValidator<A, T> {
+        private final ConstraintValidator<A, T> validator;
+        private Class<? extends Annotation> constraint;
+
+        TimedConstraintValidator(final ConstraintValidator<A, T> validator) {
+            this.validator = validator;
+        }
+
+        @Override
+        public void initialize(final ConstraintDescriptor<A> constraintDescriptor,
+                               final HibernateConstraintValidatorInitializationContext initializationContext) {
+            // some hibernate validators (e.g. time-related) rely on extended initialization
+            if (validator instanceof HibernateConstraintValidator) {
+                ((HibernateConstraintValidator<A, T>) validator).initialize(constraintDescriptor, initializationContext);
+            }
+        }
+
+        @Override
+        public void initialize(final A constraintAnnotation) {
+            constraint = constraintAnnotation.annotationType();
+            validator.initialize(constraintAnnotation);
+        }
+
+        @Override
+        public boolean isValid(final T value, final ConstraintValidatorContext context) {
+            final long start = System.nanoTime();
+            try {
+                return validator.isValid(value, context);
+            } finally {
+                stats.recordConstraint(constraint, System.nanoTime() - start);
+            }
+        }
+    }
+}
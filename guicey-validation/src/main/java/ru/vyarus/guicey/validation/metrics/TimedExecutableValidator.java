@@ -0,0 +1,68 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.executable.ExecutableValidator;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Executable validator decorator recording validation time of each method.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TimedExecutableValidator implements ExecutableValidator {
+
+    private final ExecutableValidator validator;
+    private final ValidationStats stats;
+
+    public TimedExecutableValidator(final ExecutableValidator validator, final ValidationStats stats) {
+        this.validator = validator;
+        this.stats = stats;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateParameters(final T object,
+                                                              final Method method,
+                                                              final Object[] parameterValues,
+                                                              final Class<?>... groups) {
+        final long start = System.nanoTime();
+        final Set<ConstraintViolation<T>> res = validator.validateParameters(object, method, parameterValues, groups);
+        stats.recordMethod(method, System.nanoTime() - start, res);
+        return res;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateReturnValue(final T object,
+                                                               final Method method,
+                                                               final Object returnValue,
+                                                               final Class<?>... groups) {
+        final long start = System.nanoTime();
+        final Set<ConstraintViolation<T>> res = validator.validateReturnValue(object, method, returnValue, groups);
+        stats.recordMethod(method, System.nanoTime() - start, res);
+        return res;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateConstructorParameters(final Constructor<? extends T> constructor,
+                                                                         final Object[] parameterValues,
+                                                                         final Class<?>... groups) {
+        final long start = System.nanoTime();
+        final Set<ConstraintViolation<T>> res =
+                validator.validateConstructorParameters(constructor, parameterValues, groups);
+        stats.recordMethod(constructor, System.nanoTime() - start, res);
+        return res;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(final Constructor<? extends T> constructor,
+                                                                          final T createdObject,
+                                                                          final Class<?>... groups) {
+        final long start = System.nanoTime();
+        final Set<ConstraintViolation<T>> res =
+                validator.validateConstructorReturnValue(constructor, createdObject, groups);
+        stats.recordMethod(constructor, System.nanoTime() - start, res);
+        return res;
+    }
+}
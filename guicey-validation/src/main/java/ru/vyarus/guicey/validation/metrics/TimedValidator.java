@@ -0,0 +1,65 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+import java.util.Set;
+
+/**
+ * Validator decorator: counts violations of beans validation and provides timed executable validator.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TimedValidator implements Validator {
+
+    private final Validator validator;
+    private final ValidationStats stats;
+
+    public TimedValidator(final Validator validator, final ValidationStats stats) {
+        this.validator = validator;
+        this.stats = stats;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(final T object, final Class<?>... groups) {
+        final Set<ConstraintViolation<T>> res = validator.validate(object, groups);
+        stats.recordViolations(res);
+        return res;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateProperty(final T object,
+                                                            final String propertyName,
+                                                            final Class<?>... groups) {
+        final Set<ConstraintViolation<T>> res = validator.validateProperty(object, propertyName, groups);
+        stats.recordViolations(res);
+        return res;
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validateValue(final Class<T> beanType,
+                                                         final String propertyName,
+                                                         final Object value,
+                                                         final Class<?>... groups) {
+        final Set<ConstraintViolation<T>> res = validator.validateValue(beanType, propertyName, value, groups);
+        stats.recordViolations(res);
+        return res;
+    }
+
+    @Override
+    public BeanDescriptor getConstraintsForClass(final Class<?> clazz) {
+        return validator.getConstraintsForClass(clazz);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> type) {
+        return validator.unwrap(type);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        return new TimedExecutableValidator(validator.forExecutables(), stats);
+    }
+}
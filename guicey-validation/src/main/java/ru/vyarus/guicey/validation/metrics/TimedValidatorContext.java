@@ -0,0 +1,72 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.ParameterNameProvider;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+import javax.validation.ValidatorContext;
+import javax.validation.valueextraction.ValueExtractor;
+
+/**
+ * Validator context decorator: wraps constraint validator factory and produced validator.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TimedValidatorContext implements ValidatorContext {
+
+    private final ValidatorContext context;
+    private final ValidationStats stats;
+
+    public TimedValidatorContext(final ValidatorContext context,
+                                 final ConstraintValidatorFactory defaultFactory,
+                                 final ValidationStats stats) {
+        this.context = context;
+        this.stats = stats;
+        // wrap default factory (if custom factory would not be configured)
+        context.constraintValidatorFactory(new TimedConstraintValidatorFactory(defaultFactory, stats));
+    }
+
+    @Override
+    public ValidatorContext messageInterpolator(final MessageInterpolator messageInterpolator) {
+        context.messageInterpolator(messageInterpolator);
+        return this;
+    }
+
+    @Override
+    public ValidatorContext traversableResolver(final TraversableResolver traversableResolver) {
+        context.traversableResolver(traversableResolver);
+        return this;
+    }
+
+    @Override
+    public ValidatorContext constraintValidatorFactory(final ConstraintValidatorFactory factory) {
+        context.constraintValidatorFactory(new TimedConstraintValidatorFactory(factory, stats));
+        return this;
+    }
+
+    @Override
+    public ValidatorContext parameterNameProvider(final ParameterNameProvider parameterNameProvider) {
+        context.parameterNameProvider(parameterNameProvider);
+        return this;
+    }
+
+    @Override
+    public ValidatorContext clockProvider(final ClockProvider clockProvider) {
+        context.clockProvider(clockProvider);
+        return this;
+    }
+
+    @Override
+    public ValidatorContext addValueExtractor(final ValueExtractor<?> extractor) {
+        context.addValueExtractor(extractor);
+        return this;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return new TimedValidator(context.getValidator(), stats);
+    }
+}
@@ -0,0 +1,73 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.ParameterNameProvider;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+import javax.validation.ValidatorContext;
+import javax.validation.ValidatorFactory;
+
+/**
+ * Validator factory decorator: all produced validators record validation time and violations into
+ * {@link ValidationStats}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TimedValidatorFactory implements ValidatorFactory {
+
+    private final ValidatorFactory factory;
+    private final ValidationStats stats;
+
+    public TimedValidatorFactory(final ValidatorFactory factory, final ValidationStats stats) {
+        this.factory = factory;
+        this.stats = stats;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return usingContext().getValidator();
+    }
+
+    @Override
+    public ValidatorContext usingContext() {
+        return new TimedValidatorContext(factory.usingContext(), factory.getConstraintValidatorFactory(), stats);
+    }
+
+    @Override
+    public MessageInterpolator getMessageInterpolator() {
+        return factory.getMessageInterpolator();
+    }
+
+    @Override
+    public TraversableResolver getTraversableResolver() {
+        return factory.getTraversableResolver();
+    }
+
+    @Override
+    public ConstraintValidatorFactory getConstraintValidatorFactory() {
+        return factory.getConstraintValidatorFactory();
+    }
+
+    @Override
+    public ParameterNameProvider getParameterNameProvider() {
+        return factory.getParameterNameProvider();
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return factory.getClockProvider();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> type) {
+        return factory.unwrap(type);
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+    }
+}
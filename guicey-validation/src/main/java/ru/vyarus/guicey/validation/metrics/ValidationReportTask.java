@@ -0,0 +1,34 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin task printing the most expensive validated methods: {@code POST /tasks/validation-report}.
+ * Use "reset" parameter to clear collected statistics after report ({@code ?reset=true}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ValidationReportTask extends Task {
+
+    private final ValidationStats stats;
+
+    public ValidationReportTask(final ValidationStats stats) {
+        super("validation-report");
+        this.stats = stats;
+    }
+
+    @Override
+    public void execute(final Map<String, List<String>> parameters, final PrintWriter output) throws Exception {
+        final String report = stats.renderReport();
+        output.println(report == null ? "No validations performed" : report);
+        final List<String> reset = parameters.get("reset");
+        if (reset != null && reset.contains("true")) {
+            stats.reset();
+        }
+    }
+}
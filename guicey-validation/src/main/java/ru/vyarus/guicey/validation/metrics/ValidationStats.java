@@ -0,0 +1,141 @@
+package ru.vyarus.guicey.validation.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import javax.validation.ConstraintViolation;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
+import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.TAB;
+
+/**
+ * Validation statistics. Records validation time for each validated method (and constructor) and each constraint
+ * type, and violations count per constraint type. All values are also registered in dropwizard metrics:
+ * <ul>
+ * <li>{@code validation.methods.[class].[method]} - method validation (parameters + return value) timer</li>
+ * <li>{@code validation.constraints.[Constraint]} - constraint validator execution timer</li>
+ * <li>{@code validation.violations.[Constraint]} - violations counter</li>
+ * </ul>
+ * <p>
+ * Bound in guice context so report of the most expensive validated methods could be obtained at any time
+ * (also available with "validation-report" admin task).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ValidationStats {
+    private static final int MAX_METHODS = 20;
+    private static final double NANOS_IN_MS = 1_000_000d;
+
+    private final MetricRegistry metrics;
+    private final Map<Executable, Stat> methods = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Annotation>, Timer> constraints = new ConcurrentHashMap<>();
+
+    public ValidationStats(final MetricRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param method     validated method or constructor
+     * @param nanos      validation time
+     * @param violations found violations
+     */
+    public void recordMethod(final Executable method, final long nanos, final Set<?> violations) {
+        methods.computeIfAbsent(method, Stat::new).record(nanos);
+        recordViolations(violations);
+    }
+
+    /**
+     * @param constraint constraint annotation type
+     * @param nanos      constraint validator execution time
+     */
+    public void recordConstraint(final Class<? extends Annotation> constraint, final long nanos) {
+        constraints.computeIfAbsent(constraint, type ->
+                metrics.timer(MetricRegistry.name("validation", "constraints", type.getSimpleName())))
+                .update(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param violations found violations
+     */
+    public void recordViolations(final Set<?> violations) {
+        for (Object violation : violations) {
+            metrics.counter(MetricRegistry.name("validation", "violations", ((ConstraintViolation<?>) violation)
+                    .getConstraintDescriptor().getAnnotation().annotationType().getSimpleName())).inc();
+        }
+    }
+
+    /**
+     * Clears collected statistics (registered metrics are not affected).
+     */
+    public void reset() {
+        methods.values().forEach(Stat::reset);
+    }
+
+    /**
+     * @return report of the most expensive validated methods (by total validation time) or null if no
+     * validations were performed
+     */
+    public String renderReport() {
+        final List<Stat> stats = new ArrayList<>();
+        for (Stat stat : methods.values()) {
+            if (stat.count.sum() > 0) {
+                stats.add(stat);
+            }
+        }
+        if (stats.isEmpty()) {
+            return null;
+        }
+        stats.sort(Comparator.comparingLong((Stat stat) -> stat.total.sum()).reversed());
+        final StringBuilder res = new StringBuilder("The most expensive validated methods = ")
+                .append(NEWLINE).append(NEWLINE)
+                .append(TAB).append(String.format("%12s %10s %12s    %s", "total", "calls", "avg", "method"))
+                .append(NEWLINE);
+        for (Stat stat : stats.subList(0, Math.min(MAX_METHODS, stats.size()))) {
+            final long count = stat.count.sum();
+            final long total = stat.total.sum();
+            res.append(TAB).append(String.format("%9.2f ms %10d %9.3f ms    %s",
+                    total / NANOS_IN_MS, count, total / NANOS_IN_MS / count, stat.name)).append(NEWLINE);
+        }
+        if (stats.size() > MAX_METHODS) {
+            res.append(TAB).append("... ").append(stats.size() - MAX_METHODS).append(" more").append(NEWLINE);
+        }
+        return res.toString();
+    }
+
+    /**
+     * Single method statistic.
+     */
+    private class Stat {
+        private final String name;
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        Stat(final Executable method) {
+            this.name = method.getDeclaringClass().getName() + "." + method.getName();
+            this.timer = metrics.timer(MetricRegistry.name("validation", "methods", name));
+        }
+
+        void record(final long nanos) {
+            count.increment();
+            total.add(nanos);
+            timer.update(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        void reset() {
+            count.reset();
+            total.reset();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ru.vyarus.guicey.validation.util;
+
+import com.google.inject.matcher.AbstractMatcher;
+
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Matcher accepts only methods with validation constraints (on parameters, return value or cascaded validation
+ * with {@link javax.validation.Valid}) according to validator metadata. Metadata is used (instead of direct
+ * annotations search) in order to also recognize constraints, inherited from super types, and constraints
+ * declared in xml mappings.
+ * <p>
+ * Used to avoid validation interceptor installation on methods without constraints (validation would never be
+ * performed for them, but interceptor overhead would be present for each call).
+ * <p>
+ * Bean descriptors and match results are cached (matcher is called multiple times for the same method).
+ * Method descriptors are not stored: they are required only for matching and actual validation use hibernate
+ * validator's own (cached) metadata.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ConstrainedMethodMatcher extends AbstractMatcher<Method> {
+
+    private final Validator validator;
+    private final Map<Class<?>, BeanDescriptor> beans = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> methods = new ConcurrentHashMap<>();
+
+    public ConstrainedMethodMatcher(final Validator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public boolean matches(final Method method) {
+        return methods.computeIfAbsent(method, this::isConstrained);
+    }
+
+    /**
+     * @return count of checked methods
+     */
+    public int getCheckedCount() {
+        return methods.size();
+    }
+
+    /**
+     * @return count of methods with constraints (selected for validation)
+     */
+    public int getConstrainedCount() {
+        return (int) methods.values().stream().filter(Boolean::booleanValue).count();
+    }
+
+    private boolean isConstrained(final Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        final BeanDescriptor bean = beans.computeIfAbsent(method.getDeclaringClass(),
+                validator::getConstraintsForClass);
+        // descriptor is null when method is not constrained
+        return bean.getConstraintsForMethod(method.getName(), method.getParameterTypes()) != null;
+    }
+}
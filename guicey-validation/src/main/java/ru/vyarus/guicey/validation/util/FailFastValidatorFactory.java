@@ -0,0 +1,73 @@
+package ru.vyarus.guicey.validation.util;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.MessageInterpolator;
+import javax.validation.ParameterNameProvider;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+import javax.validation.ValidatorContext;
+import javax.validation.ValidatorFactory;
+
+/**
+ * Validator factory decorator producing fail fast validators (hibernate validator stops on the first violation).
+ * Used instead of factory re-creation in order to preserve all dropwizard factory configurations.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class FailFastValidatorFactory implements ValidatorFactory {
+
+    private final ValidatorFactory factory;
+
+    public FailFastValidatorFactory(final ValidatorFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public Validator getValidator() {
+        return usingContext().getValidator();
+    }
+
+    @Override
+    public ValidatorContext usingContext() {
+        return factory.unwrap(HibernateValidatorFactory.class).usingContext().failFast(true);
+    }
+
+    @Override
+    public MessageInterpolator getMessageInterpolator() {
+        return factory.getMessageInterpolator();
+    }
+
+    @Override
+    public TraversableResolver getTraversableResolver() {
+        return factory.getTraversableResolver();
+    }
+
+    @Override
+    public ConstraintValidatorFactory getConstraintValidatorFactory() {
+        return factory.getConstraintValidatorFactory();
+    }
+
+    @Override
+    public ParameterNameProvider getParameterNameProvider() {
+        return factory.getParameterNameProvider();
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return factory.getClockProvider();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> type) {
+        return factory.unwrap(type);
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+    }
+}
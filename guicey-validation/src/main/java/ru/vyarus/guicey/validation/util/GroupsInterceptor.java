@@ -0,0 +1,30 @@
+package ru.vyarus.guicey.validation.util;
+
+import com.google.inject.Provider;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import ru.vyarus.guice.validator.group.ValidationContext;
+
+/**
+ * Interceptor applies validation groups for the method call (like
+ * {@link ru.vyarus.guice.validator.group.annotation.ValidationGroups} annotation, but configured externally).
+ * Must be applied before validation interceptor.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class GroupsInterceptor implements MethodInterceptor {
+
+    private final Provider<ValidationContext> context;
+    private final Class<?>[] groups;
+
+    public GroupsInterceptor(final Provider<ValidationContext> context, final Class<?>... groups) {
+        this.context = context;
+        this.groups = groups;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        return context.get().doWithGroups(invocation::proceed, groups);
+    }
+}
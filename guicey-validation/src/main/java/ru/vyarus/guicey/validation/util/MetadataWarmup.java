@@ -0,0 +1,151 @@
+package ru.vyarus.guicey.validation.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.matcher.Matcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guice.ext.core.util.Utils;
+
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate validator builds beans metadata lazily, so the first validation of each bean is slow. Warm up builds
+ * metadata for all guice beans, matching validation scope (target classes and methods), at startup.
+ * Classes are processed concurrently.
+ * <p>
+ * All declared methods of class hierarchy are checked (not only public) because guice could intercept
+ * protected and package-private methods too.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class MetadataWarmup {
+    private static final double NANOS_IN_MS = 1_000_000d;
+
+    private final Logger logger = LoggerFactory.getLogger(MetadataWarmup.class);
+
+    private final Matcher<? super Class> typeMatcher;
+    private final Matcher<? super Method> methodMatcher;
+    private final int threads;
+
+    /**
+     * @param typeMatcher   target classes matcher
+     * @param methodMatcher target methods matcher
+     * @param threads       threads to use
+     */
+    public MetadataWarmup(final Matcher<? super Class> typeMatcher,
+                          final Matcher<? super Method> methodMatcher,
+                          final int threads) {
+        this.typeMatcher = typeMatcher;
+        this.methodMatcher = methodMatcher;
+        this.threads = threads;
+    }
+
+    /**
+     * Build validation metadata for all matched guice beans.
+     *
+     * @param injector  injector
+     * @param validator validator
+     * @return warm up report
+     */
+    public String warmUp(final Injector injector, final Validator validator) {
+        final long start = System.nanoTime();
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        for (Key<?> key : injector.getAllBindings().keySet()) {
+            final Class<?> type = key.getTypeLiteral().getRawType();
+            if (Utils.isPackageValid(type) && typeMatcher.matches(type)) {
+                types.add(type);
+            }
+        }
+
+        final LongAdder time = new LongAdder();
+        final AtomicInteger methods = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("validation-warmup-%d")
+                .setDaemon(true)
+                .build());
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (Class<?> type : types) {
+                futures.add(executor.submit(() -> {
+                    final long typeStart = System.nanoTime();
+                    methods.addAndGet(warmUp(type, validator));
+                    time.add(System.nanoTime() - typeStart);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            // should not prevent startup
+            logger.warn("Validation metadata warm up failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            logger.warn("Validation metadata warm up interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+        return String.format("Validation metadata warmed up for %s classes (%s constrained methods) in %.2f ms "
+                        + "(%.2f ms spent in %s threads)", types.size(), methods.get(),
+                (System.nanoTime() - start) / NANOS_IN_MS, time.sum() / NANOS_IN_MS, threads);
+    }
+
+    private int warmUp(final Class<?> type, final Validator validator) {
+        final BeanDescriptor descriptor = validator.getConstraintsForClass(type);
+        int res = 0;
+        for (Method method : collectMethods(type)) {
+            if (methodMatcher.matches(method)
+                    && descriptor.getConstraintsForMethod(method.getName(), method.getParameterTypes()) != null) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    private static Iterable<Method> collectMethods(final Class<?> type) {
+        // method signature -> method (overridden methods checked just once)
+        final Map<String, Method> res = new LinkedHashMap<>();
+        Class<?> current = type;
+        while (current != null && !current.equals(Object.class)) {
+            for (Method method : current.getDeclaredMethods()) {
+                // private methods can't be intercepted
+                if (!method.isSynthetic() && !method.isBridge()
+                        && !Modifier.isStatic(method.getModifiers())
+                        && !Modifier.isPrivate(method.getModifiers())) {
+                    res.putIfAbsent(signature(method), method);
+                }
+            }
+            current = current.getSuperclass();
+        }
+        // public interface (default) methods
+        for (Method method : type.getMethods()) {
+            if (!method.getDeclaringClass().equals(Object.class) && !Modifier.isStatic(method.getModifiers())) {
+                res.putIfAbsent(signature(method), method);
+            }
+        }
+        return res.values();
+    }
+
+    private static String signature(final Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+}
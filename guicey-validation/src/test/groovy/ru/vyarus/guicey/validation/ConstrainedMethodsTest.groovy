@@ -0,0 +1,74 @@
+package ru.vyarus.guicey.validation
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.validation.ConstraintViolationException
+import javax.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class ConstrainedMethodsTest extends Specification {
+
+    @Inject
+    NoConstraintsService plain
+
+    @Inject
+    InheritedService inherited
+
+    def "Check interceptor applied only to constrained methods"() {
+
+        expect: "bean without constraints is not proxied"
+        plain.class == NoConstraintsService
+
+        and: "bean with constraints is proxied"
+        inherited.class != InheritedService
+    }
+
+    def "Check inherited constraints validated"() {
+
+        when: "call method with constraint declared in interface"
+        inherited.call(null)
+        then: "validation failed"
+        thrown(ConstraintViolationException)
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class NoConstraintsService {
+
+        public void call(Object arg) {
+        }
+    }
+
+    static interface Api {
+        void call(@NotNull Object arg)
+    }
+
+    static class InheritedService implements Api {
+
+        @Override
+        void call(Object arg) {
+        }
+    }
+}
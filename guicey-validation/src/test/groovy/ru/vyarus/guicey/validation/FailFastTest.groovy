@@ -0,0 +1,53 @@
+package ru.vyarus.guicey.validation
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.validation.ConstraintViolationException
+import javax.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class FailFastTest extends Specification {
+
+    @Inject
+    Service service
+
+    def "Check fail fast validation"() {
+
+        when: "call service with two incorrect parameters"
+        service.call(null, null)
+        then: "only first violation found"
+        def ex = thrown(ConstraintViolationException)
+        ex.constraintViolations.size() == 1
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ValidationBundle().failFast())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        public void call(@NotNull Object arg, @NotNull Object arg2) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ru.vyarus.guicey.validation
+
+import com.google.inject.Injector
+import com.google.inject.matcher.Matchers
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guice.validator.aop.DeclaredMethodMatcher
+import ru.vyarus.guicey.validation.util.MetadataWarmup
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.validation.ConstraintViolationException
+import javax.validation.Validator
+import javax.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class MetadataWarmupTest extends Specification {
+
+    @Inject
+    Service service
+
+    @Inject
+    Injector injector
+
+    @Inject
+    Validator validator
+
+    def "Check validation works with warm up"() {
+
+        when: "call service with incorrect parameter"
+        service.call(null)
+        then: "validation failed"
+        thrown(ConstraintViolationException)
+    }
+
+    def "Check warm up report"() {
+
+        when: "warm up metadata"
+        String report = new MetadataWarmup(Matchers.only(Service), new DeclaredMethodMatcher(), 2)
+                .warmUp(injector, validator)
+
+        then: "service method found"
+        report.startsWith('Validation metadata warmed up for 1 classes (1 constrained methods) in ')
+        report.endsWith(' spent in 2 threads)')
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ValidationBundle().warmUpMetadata(2))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        public void call(@NotNull Object arg) {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.vyarus.guicey.validation
+
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.validation.metrics.ValidationStats
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.validation.ConstraintViolationException
+import javax.validation.constraints.NotNull
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class ValidationMetricsTest extends Specification {
+
+    @Inject
+    Service service
+
+    @Inject
+    ValidationStats stats
+
+    @Inject
+    Environment environment
+
+    def "Check validation metrics"() {
+
+        when: "call service"
+        service.call(12)
+        service.call(null)
+        then: "validation failed"
+        thrown(ConstraintViolationException)
+
+        and: "metrics registered"
+        environment.metrics().timer('validation.methods.ru.vyarus.guicey.validation.ValidationMetricsTest$Service.call').count == 2
+        environment.metrics().timer('validation.constraints.NotNull').count == 2
+        environment.metrics().counter('validation.violations.NotNull').count == 1
+
+        and: "method reported"
+        stats.renderReport().contains('ru.vyarus.guicey.validation.ValidationMetricsTest$Service.call')
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ValidationBundle().withMetrics())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Service {
+
+        public void call(@NotNull Object arg) {
+        }
+    }
+}
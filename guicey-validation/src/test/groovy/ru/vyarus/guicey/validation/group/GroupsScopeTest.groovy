@@ -0,0 +1,88 @@
+package ru.vyarus.guicey.validation.group
+
+import com.google.inject.matcher.Matchers
+import io.dropwizard.core.Application
+import io.dropwizard.core.Configuration
+import io.dropwizard.core.setup.Bootstrap
+import io.dropwizard.core.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.jupiter.TestGuiceyApp
+import ru.vyarus.guicey.validation.ValidationBundle
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.validation.ConstraintViolationException
+import javax.validation.constraints.NotNull
+import javax.validation.constraints.Size
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@TestGuiceyApp(App)
+class GroupsScopeTest extends Specification {
+
+    @Inject
+    InternalService internal
+
+    @Inject
+    EdgeService edge
+
+    def "Check groups restricted for internal service"() {
+
+        when: "expensive constraint violated"
+        String res = internal.call("sample", "ab")
+        then: "not validated"
+        noExceptionThrown()
+        res == "sample ab"
+
+        when: "both constraints violated"
+        internal.call(null, "ab")
+        then: "only configured group validated"
+        def ex = thrown(ConstraintViolationException)
+        violated(ex) == [NotNull] as Set
+    }
+
+    def "Check full validation for edge service"() {
+
+        when: "both constraints violated"
+        edge.call(null, "ab")
+        then: "default group validated"
+        def ex = thrown(ConstraintViolationException)
+        violated(ex) == [NotNull, Size] as Set
+    }
+
+    private static Set<Class> violated(ConstraintViolationException ex) {
+        ex.constraintViolations.collect { it.constraintDescriptor.annotation.annotationType() } as Set
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ValidationBundle()
+                            .strictGroupsDeclaration()
+                            .validationGroups(Matchers.subclassesOf(InternalService), Group1))
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class InternalService {
+
+        String call(@NotNull(groups = Group1) String arg, @Size(min = 5) String arg2) {
+            return arg + " " + arg2
+        }
+    }
+
+    static class EdgeService {
+
+        String call(@NotNull String arg, @Size(min = 5) String arg2) {
+            return arg + " " + arg2
+        }
+    }
+}